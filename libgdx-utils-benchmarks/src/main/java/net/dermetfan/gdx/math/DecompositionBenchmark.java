@@ -0,0 +1,59 @@
+package net.dermetfan.gdx.math;
+
+import java.util.concurrent.TimeUnit;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
+import net.dermetfan.utils.math.Polygons;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** benchmarks the triangulation and convex decomposition of concave polygons */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DecompositionBenchmark {
+
+	@Param({"8", "64", "256"})
+	public int vertexCount;
+
+	private float[] star;
+
+	private final Array<Vector2> starVectors = new Array<>();
+
+	@Setup
+	public void setup() {
+		star = Polygons.star(vertexCount, 42);
+		starVectors.clear();
+		for(int i = 0; i < star.length; i += 2)
+			starVectors.add(new Vector2(star[i], star[i + 1]));
+	}
+
+	@Benchmark
+	public float[][] triangulate() {
+		return GeometryUtils.triangulate(star);
+	}
+
+	@Benchmark
+	public float[][] decompose() {
+		return GeometryUtils.decompose(star);
+	}
+
+	@Benchmark
+	public Array<Array<Vector2>> convexPartition() {
+		return BayazitDecomposer.convexPartition(starVectors);
+	}
+
+}
@@ -0,0 +1,57 @@
+package net.dermetfan.gdx.physics.box2d;
+
+import java.util.concurrent.TimeUnit;
+
+import com.badlogic.gdx.maps.Map;
+import com.badlogic.gdx.physics.box2d.World;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** measures {@link Box2DMapObjectParser#load(World, Map)} by the number of map objects */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 10)
+@Measurement(iterations = 20)
+@Fork(1)
+public class Box2DMapObjectParserBenchmark {
+
+	@Param({"1000", "10000", "50000"})
+	public int objects;
+
+	private Map map;
+
+	private World world;
+
+	@Setup
+	public void setup() {
+		map = Worlds.map(objects, 42);
+	}
+
+	@Setup(Level.Iteration)
+	public void createWorld() {
+		world = Worlds.create();
+	}
+
+	@TearDown(Level.Iteration)
+	public void disposeWorld() {
+		world.dispose();
+	}
+
+	@Benchmark
+	public World load() {
+		return new Box2DMapObjectParser(1 / 32f).load(world, map);
+	}
+
+}
@@ -0,0 +1,119 @@
+package net.dermetfan.gdx.physics.box2d;
+
+import java.util.concurrent.TimeUnit;
+
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.Body;
+import com.badlogic.gdx.physics.box2d.BodyDef;
+import com.badlogic.gdx.physics.box2d.BodyDef.BodyType;
+import com.badlogic.gdx.physics.box2d.Fixture;
+import com.badlogic.gdx.physics.box2d.PolygonShape;
+import com.badlogic.gdx.physics.box2d.World;
+import com.badlogic.gdx.utils.Array;
+import net.dermetfan.utils.Pair;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/** measures {@link Box2DUtils#vertices(Fixture) vertices} and {@link Box2DUtils#aabb(Body, Rectangle) aabb} over all bodies of a world and {@link Box2DUtils#split(Body, Vector2, Vector2, Pair) split} in a populated world */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class Box2DUtilsBenchmark {
+
+	@Param({"1000", "10000", "50000"})
+	public int bodies;
+
+	/** whether {@link Box2DUtils#autoCache} is enabled */
+	@Param({"true", "false"})
+	public boolean autoCache;
+
+	private World world;
+
+	private final Array<Body> bodyArray = new Array<>();
+
+	private final Rectangle aabb = new Rectangle();
+
+	private final Vector2 a = new Vector2(), b = new Vector2();
+
+	private final Pair<Body, Body> split = new Pair<>();
+
+	private final BodyDef splitBodyDef = new BodyDef();
+
+	private PolygonShape splitShape;
+
+	/** the body that is split by {@link #split()} */
+	private Body toSplit;
+
+	@Setup
+	public void setup() {
+		Box2DUtils.autoCache = autoCache;
+		Box2DUtils.cache.clear();
+		world = Worlds.populate(Worlds.create(), bodies, 42);
+		world.getBodies(bodyArray);
+		splitBodyDef.type = BodyType.DynamicBody;
+		splitBodyDef.position.set(-10, -10);
+		splitShape = new PolygonShape();
+		splitShape.setAsBox(1, 1);
+	}
+
+	@Setup(Level.Invocation)
+	public void createBodyToSplit() {
+		toSplit = world.createBody(splitBodyDef);
+		toSplit.createFixture(splitShape, 1);
+	}
+
+	@TearDown(Level.Invocation)
+	public void destroySplitBodies() {
+		world.destroyBody(toSplit);
+		if(split.hasKey())
+			world.destroyBody(split.getKey());
+		if(split.hasValue())
+			world.destroyBody(split.getValue());
+		split.clear();
+	}
+
+	@TearDown
+	public void tearDown() {
+		splitShape.dispose();
+		world.dispose();
+		Box2DUtils.cache.clear();
+		Box2DUtils.autoCache = true;
+	}
+
+	@Benchmark
+	public void vertices(Blackhole blackhole) {
+		for(int i = 0; i < bodyArray.size; i++) {
+			Array<Fixture> fixtures = bodyArray.get(i).getFixtureList();
+			for(int ii = 0; ii < fixtures.size; ii++)
+				blackhole.consume(Box2DUtils.vertices(fixtures.get(ii)));
+		}
+	}
+
+	@Benchmark
+	public void aabb(Blackhole blackhole) {
+		for(int i = 0; i < bodyArray.size; i++)
+			blackhole.consume(Box2DUtils.aabb(bodyArray.get(i), aabb));
+	}
+
+	@Benchmark
+	public boolean split() {
+		return Box2DUtils.split(toSplit, a.set(-12, -10.5f), b.set(-8, -9.5f), split);
+	}
+
+}
@@ -0,0 +1,62 @@
+package net.dermetfan.gdx.physics.box2d;
+
+import java.util.concurrent.TimeUnit;
+
+import com.badlogic.gdx.physics.box2d.World;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** measures {@link WorldObserver#update(World, float)} by the number of bodies in the world */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WorldObserverBenchmark {
+
+	@Param({"1000", "10000", "50000"})
+	public int bodies;
+
+	private World world;
+
+	private WorldObserver observer;
+
+	@Setup
+	public void setup() {
+		world = Worlds.populate(Worlds.create(), bodies, 42);
+		observer = new WorldObserver();
+		observer.update(world, 1 / 60f); // the first update sees every body as created
+	}
+
+	@TearDown
+	public void tearDown() {
+		world.dispose();
+	}
+
+	/** nothing changed since the last update */
+	@Benchmark
+	public WorldObserver update() {
+		observer.update(world, 1 / 60f);
+		return observer;
+	}
+
+	/** the world was stepped, so most bodies changed */
+	@Benchmark
+	public WorldObserver stepAndUpdate() {
+		world.step(1 / 60f, 8, 3);
+		observer.update(world, 1 / 60f);
+		return observer;
+	}
+
+}
@@ -0,0 +1,144 @@
+package net.dermetfan.gdx.physics.box2d;
+
+import java.util.Random;
+
+import com.badlogic.gdx.maps.Map;
+import com.badlogic.gdx.maps.MapLayer;
+import com.badlogic.gdx.maps.MapObject;
+import com.badlogic.gdx.maps.MapObjects;
+import com.badlogic.gdx.maps.objects.EllipseMapObject;
+import com.badlogic.gdx.maps.objects.PolygonMapObject;
+import com.badlogic.gdx.maps.objects.PolylineMapObject;
+import com.badlogic.gdx.maps.objects.RectangleMapObject;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.Body;
+import com.badlogic.gdx.physics.box2d.BodyDef;
+import com.badlogic.gdx.physics.box2d.BodyDef.BodyType;
+import com.badlogic.gdx.physics.box2d.Box2D;
+import com.badlogic.gdx.physics.box2d.CircleShape;
+import com.badlogic.gdx.physics.box2d.PolygonShape;
+import com.badlogic.gdx.physics.box2d.Shape;
+import com.badlogic.gdx.physics.box2d.World;
+import com.badlogic.gdx.physics.box2d.joints.DistanceJointDef;
+import com.badlogic.gdx.utils.GdxNativesLoader;
+import net.dermetfan.utils.math.Polygons;
+
+/** reproducible Box2D worlds and maps for benchmarks, usable headless (only the desktop natives are needed) */
+public final class Worlds {
+
+	/** the distance between two bodies on the grid the bodies are placed on */
+	public static final float spacing = 2;
+
+	private static boolean initialized;
+
+	/** loads the natives needed to create a {@link World} */
+	public static synchronized void init() {
+		if(initialized)
+			return;
+		GdxNativesLoader.load();
+		Box2D.init();
+		initialized = true;
+	}
+
+	/** @return a new World without gravity so that the populated bodies stay where they are placed */
+	public static World create() {
+		init();
+		return new World(new Vector2(), true);
+	}
+
+	/** Creates bodies on a grid, with a few joints between them. Four in five bodies are dynamic. The shapes are boxes, circles and hexagons.
+	 *  @param world the world to populate
+	 *  @param bodyCount the number of bodies to create
+	 *  @param seed the seed that makes the result reproducible
+	 *  @return the given world */
+	public static World populate(World world, int bodyCount, long seed) {
+		Random random = new Random(seed);
+		int columns = (int) Math.ceil(Math.sqrt(bodyCount));
+
+		BodyDef bodyDef = new BodyDef();
+		PolygonShape box = new PolygonShape();
+		box.setAsBox(.4f, .4f);
+		CircleShape circle = new CircleShape();
+		circle.setRadius(.4f);
+		PolygonShape hexagon = new PolygonShape();
+		float[] hexagonVertices = new float[12];
+		for(int i = 0; i < 6; i++) {
+			hexagonVertices[i * 2] = (float) Math.cos(Math.PI / 3 * i) * .4f;
+			hexagonVertices[i * 2 + 1] = (float) Math.sin(Math.PI / 3 * i) * .4f;
+		}
+		hexagon.set(hexagonVertices);
+		DistanceJointDef jointDef = new DistanceJointDef();
+
+		Body previous = null;
+		for(int i = 0; i < bodyCount; i++) {
+			bodyDef.type = random.nextInt(5) == 0 ? BodyType.StaticBody : BodyType.DynamicBody;
+			bodyDef.position.set(i % columns * spacing + random.nextFloat() * .2f, i / columns * spacing + random.nextFloat() * .2f);
+			bodyDef.angle = random.nextFloat() * (float) Math.PI;
+			Body body = world.createBody(bodyDef);
+			int kind = random.nextInt(4);
+			Shape shape = kind < 2 ? box : kind == 2 ? circle : hexagon;
+			body.createFixture(shape, 1);
+			if(previous != null && i % 100 == 0) {
+				jointDef.initialize(previous, body, previous.getPosition(), body.getPosition());
+				world.createJoint(jointDef);
+			}
+			previous = body;
+		}
+
+		box.dispose();
+		circle.dispose();
+		hexagon.dispose();
+		return world;
+	}
+
+	/** Creates a map equivalent to a TMX map with a single object layer that {@link Box2DMapObjectParser} can load using its default {@link Box2DMapObjectParser.Aliases Aliases}.
+	 *  The objects are rectangles, circles, concave polygons (which have to be decomposed) and polylines (chains).
+	 *  @param objectCount the number of map objects
+	 *  @param seed the seed that makes the result reproducible
+	 *  @return a new map */
+	public static Map map(int objectCount, long seed) {
+		Random random = new Random(seed);
+		int columns = (int) Math.ceil(Math.sqrt(objectCount));
+		float tile = 32;
+
+		Map map = new Map();
+		MapLayer layer = new MapLayer();
+		layer.setName("objects");
+		map.getLayers().add(layer);
+		MapObjects objects = layer.getObjects();
+
+		float[] star = Polygons.star(8, seed);
+		for(int i = 0; i < 8 * 2; i++)
+			star[i] *= tile / 2 / 110;
+
+		for(int i = 0; i < objectCount; i++) {
+			float x = i % columns * spacing * tile, y = i / columns * spacing * tile;
+			MapObject object;
+			switch(random.nextInt(4)) {
+			case 0:
+				object = new RectangleMapObject(x, y, tile * .8f, tile * .8f);
+				break;
+			case 1:
+				object = new EllipseMapObject(x, y, tile * .8f, tile * .8f);
+				break;
+			case 2:
+				PolygonMapObject polygon = new PolygonMapObject(star.clone());
+				polygon.getPolygon().setPosition(x + tile / 2, y + tile / 2);
+				object = polygon;
+				break;
+			default:
+				PolylineMapObject polyline = new PolylineMapObject(new float[] {0, 0, tile / 2, tile / 4, tile, 0});
+				polyline.getPolyline().setPosition(x, y);
+				object = polyline;
+			}
+			object.getProperties().put("type", "object");
+			object.getProperties().put("bodyType", random.nextInt(5) == 0 ? "StaticBody" : "DynamicBody");
+			object.getProperties().put("density", 1f);
+			objects.add(object);
+		}
+		return map;
+	}
+
+	private Worlds() {}
+
+}
@@ -0,0 +1,74 @@
+package net.dermetfan.gdx.utils;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import com.badlogic.gdx.utils.FloatArray;
+import com.badlogic.gdx.utils.IntArray;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** benchmarks {@link ArrayUtils#select(float[], int, int, int, int, float[]) select} and {@link ArrayUtils#skipselect(FloatArray, IntArray, IntArray, FloatArray) skipselect} by array length */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ArrayUtilsBenchmark {
+
+	@Param({"64", "4096", "262144"})
+	public int length;
+
+	private float[] items, dest;
+
+	private FloatArray floatArray, floatDest;
+
+	private final IntArray skips = IntArray.with(1), repeatSkips = IntArray.with(1, 2);
+
+	@Setup
+	public void setup() {
+		Random random = new Random(42);
+		items = new float[length];
+		for(int i = 0; i < length; i++)
+			items[i] = random.nextFloat();
+		dest = new float[length / 2];
+		floatArray = new FloatArray(items);
+		floatDest = new FloatArray(length);
+	}
+
+	@Benchmark
+	public float[] selectEverySecond() {
+		return ArrayUtils.select(items, 0, items.length, 0, 2, dest);
+	}
+
+	@Benchmark
+	public float[] selectEverySecondNew() {
+		return ArrayUtils.select(items, 0, 2);
+	}
+
+	@Benchmark
+	public FloatArray selectFloatArray() {
+		return ArrayUtils.select(floatArray, 0, 2, floatDest);
+	}
+
+	@Benchmark
+	public FloatArray skipselect() {
+		return ArrayUtils.skipselect(floatArray, skips, repeatSkips, floatDest);
+	}
+
+	@Benchmark
+	public FloatArray skipselectFixed() {
+		return ArrayUtils.skipselect(floatArray, 0, 1, floatDest);
+	}
+
+}
@@ -0,0 +1,95 @@
+package net.dermetfan.utils.math;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** benchmarks {@link GeometryUtils} on polygons of increasing vertex counts */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GeometryUtilsBenchmark {
+
+	/** the number of vertices, up to the few hundred points of user-drawn shapes */
+	@Param({"8", "32", "63", "512"})
+	public int vertexCount;
+
+	private float[] star, convex, work, hull;
+
+	@Setup
+	public void setup() {
+		star = Polygons.star(vertexCount, 42);
+		convex = Polygons.shuffledConvex(vertexCount, 42);
+		work = new float[vertexCount * 2];
+		hull = new float[vertexCount * 2];
+	}
+
+	@Benchmark
+	public float polygonArea() {
+		return GeometryUtils.polygonArea(star, 0, star.length);
+	}
+
+	@Benchmark
+	public boolean isConvex() {
+		return GeometryUtils.isConvex(convex);
+	}
+
+	@Benchmark
+	public float width() {
+		return GeometryUtils.width(star);
+	}
+
+	@Benchmark
+	public float minX() {
+		return GeometryUtils.minX(star);
+	}
+
+	@Benchmark
+	public float[] add() {
+		return GeometryUtils.add(work, 1, -1);
+	}
+
+	@Benchmark
+	public float[] mul() {
+		return GeometryUtils.mul(work, 1.0001f, .9999f);
+	}
+
+	@Benchmark
+	public float[] scale() {
+		System.arraycopy(star, 0, work, 0, work.length);
+		return GeometryUtils.scale(work, -1, -1, 1, 1);
+	}
+
+	@Benchmark
+	public float[] sortPoints() {
+		System.arraycopy(convex, 0, work, 0, work.length);
+		GeometryUtils.sortPoints(work, false);
+		return work;
+	}
+
+	@Benchmark
+	public float[] arrangeConvexPolygon() {
+		System.arraycopy(convex, 0, work, 0, work.length);
+		GeometryUtils.arrangeConvexPolygon(work, false);
+		return work;
+	}
+
+	@Benchmark
+	public int convexHull() {
+		return GeometryUtils.convexHull(star, hull);
+	}
+
+}
@@ -0,0 +1,87 @@
+package net.dermetfan.utils.math;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** benchmarks the height map generation of {@link Noise} by level of detail */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NoiseBenchmark {
+
+	/** the level of detail, the generated maps are {@code 2^n + 1} cells wide */
+	@Param({"4", "7", "10"})
+	public int n;
+
+	/** reused by the flat benchmarks */
+	private HeightField field;
+
+	private final SimplexNoise simplex = new SimplexNoise(42);
+
+	@Setup
+	public void setup() {
+		Noise.setSeed(42);
+		Noise.setSeedEnabled(true);
+		field = new HeightField(Noise.size(n, 1), Noise.size(n, 1));
+	}
+
+	@Benchmark
+	public float[][] diamondSquare() {
+		return Noise.diamondSquare(n, 2, 1, false, false, 1, 1);
+	}
+
+	@Benchmark
+	public float[][] diamondSquareWrapped() {
+		return Noise.diamondSquare(n, 2, 1, true, true, 1, 1);
+	}
+
+	@Benchmark
+	public HeightField diamondSquareFlat() {
+		return Noise.diamondSquare(n, 2, 1, false, false, field);
+	}
+
+	@Benchmark
+	public HeightField diamondSquareParallel() {
+		return ParallelNoise.diamondSquare(n, 2, 1, false, false, 42, field);
+	}
+
+	@Benchmark
+	public HeightField diamondSquareHashed() {
+		return ParallelNoise.diamondSquare(n, 2, 1, false, false, 42, field, null);
+	}
+
+	@Benchmark
+	public float[][] midpointDisplacement() {
+		return Noise.midpointDisplacement(n, 2, 1, 1, 1);
+	}
+
+	@Benchmark
+	public HeightField midpointDisplacementFlat() {
+		return Noise.midpointDisplacement(n, 2, 1, field);
+	}
+
+	@Benchmark
+	public HeightField simplexFbm() {
+		return simplex.fillFbm(field, 0, 0, .01f, 4, 2, .5f);
+	}
+
+	@Benchmark
+	public HeightField simplexRidged() {
+		return simplex.fillRidged(field, 0, 0, .01f, 4, 2, .5f);
+	}
+
+}
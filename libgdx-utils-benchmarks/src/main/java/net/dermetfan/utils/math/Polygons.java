@@ -0,0 +1,47 @@
+package net.dermetfan.utils.math;
+
+import java.util.Random;
+
+/** reproducible polygons for benchmarks */
+public final class Polygons {
+
+	/** @param vertexCount the number of vertices
+	 *  @param seed the seed for the jitter of the radii
+	 *  @return a simple, concave, counter-clockwise star-shaped polygon around the origin */
+	public static float[] star(int vertexCount, long seed) {
+		Random random = new Random(seed);
+		float[] vertices = new float[vertexCount * 2];
+		for(int i = 0; i < vertexCount; i++) {
+			double angle = Math.PI * 2 * i / vertexCount;
+			float radius = (i % 2 == 0 ? 100 : 50) + random.nextFloat() * 10;
+			vertices[i * 2] = (float) (Math.cos(angle) * radius);
+			vertices[i * 2 + 1] = (float) (Math.sin(angle) * radius);
+		}
+		return vertices;
+	}
+
+	/** @param vertexCount the number of vertices
+	 *  @param seed the seed used to shuffle the vertices
+	 *  @return the vertices of a regular convex polygon in random order */
+	public static float[] shuffledConvex(int vertexCount, long seed) {
+		Random random = new Random(seed);
+		float[] vertices = new float[vertexCount * 2];
+		for(int i = 0; i < vertexCount; i++) {
+			double angle = Math.PI * 2 * i / vertexCount;
+			vertices[i * 2] = (float) (Math.cos(angle) * 100);
+			vertices[i * 2 + 1] = (float) (Math.sin(angle) * 100);
+		}
+		for(int i = vertexCount - 1; i > 0; i--) {
+			int j = random.nextInt(i + 1);
+			float x = vertices[i * 2], y = vertices[i * 2 + 1];
+			vertices[i * 2] = vertices[j * 2];
+			vertices[i * 2 + 1] = vertices[j * 2 + 1];
+			vertices[j * 2] = x;
+			vertices[j * 2 + 1] = y;
+		}
+		return vertices;
+	}
+
+	private Polygons() {}
+
+}
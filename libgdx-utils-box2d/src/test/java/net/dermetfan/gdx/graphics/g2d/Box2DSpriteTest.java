@@ -0,0 +1,58 @@
+package net.dermetfan.gdx.graphics.g2d;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.Body;
+import com.badlogic.gdx.physics.box2d.BodyDef;
+import com.badlogic.gdx.physics.box2d.BodyDef.BodyType;
+import com.badlogic.gdx.physics.box2d.Box2D;
+import com.badlogic.gdx.physics.box2d.CircleShape;
+import com.badlogic.gdx.physics.box2d.PolygonShape;
+import com.badlogic.gdx.physics.box2d.World;
+import com.badlogic.gdx.utils.GdxNativesLoader;
+import net.dermetfan.utils.Allocations;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class Box2DSpriteTest {
+
+	private static World world;
+
+	@BeforeClass
+	public static void createWorld() {
+		GdxNativesLoader.load();
+		Box2D.init();
+		world = new World(new Vector2(), true);
+		BodyDef bodyDef = new BodyDef();
+		bodyDef.type = BodyType.DynamicBody;
+		PolygonShape box = new PolygonShape();
+		box.setAsBox(.5f, .5f);
+		CircleShape circle = new CircleShape();
+		circle.setRadius(.5f);
+		for(int i = 0; i < 50; i++) {
+			bodyDef.position.set(i % 10 * 2, i / 10 * 2);
+			Body body = world.createBody(bodyDef);
+			if(i % 2 == 0)
+				body.setUserData(new Box2DSprite());
+			body.createFixture(i % 3 == 0 ? circle : box, 1).setUserData(new Box2DSprite());
+		}
+		box.dispose();
+		circle.dispose();
+	}
+
+	@AfterClass
+	public static void disposeWorld() {
+		world.dispose();
+	}
+
+	@Test
+	public void drawAllocation() {
+		RecordingBatch batch = new RecordingBatch();
+		Box2DSprite.draw(batch, world);
+		assertEquals(75, batch.draws);
+		Allocations.assertNoAllocation("Box2DSprite#draw(Batch, World)", () -> Box2DSprite.draw(batch, world));
+	}
+
+}
@@ -0,0 +1,222 @@
+package net.dermetfan.gdx.graphics.g2d;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+import com.badlogic.gdx.math.Affine2;
+import com.badlogic.gdx.math.Matrix4;
+
+/** a {@link Batch} that does not need an OpenGL context, only counting draw calls and summing up their positions */
+public class RecordingBatch implements Batch {
+
+	/** the number of draw calls since the last {@link #reset()} */
+	public int draws;
+
+	/** the sum of the x and y coordinates of all draw calls since the last {@link #reset()} */
+	public float sumX, sumY;
+
+	private final Color color = new Color(1, 1, 1, 1);
+	private final Matrix4 projectionMatrix = new Matrix4(), transformMatrix = new Matrix4();
+	private boolean drawing, blending = true;
+	private int blendSrcFunc = GL20.GL_SRC_ALPHA, blendDstFunc = GL20.GL_ONE_MINUS_SRC_ALPHA, blendSrcFuncAlpha = GL20.GL_SRC_ALPHA, blendDstFuncAlpha = GL20.GL_ONE_MINUS_SRC_ALPHA;
+	private ShaderProgram shader;
+
+	public void reset() {
+		draws = 0;
+		sumX = sumY = 0;
+	}
+
+	private void record(float x, float y) {
+		draws++;
+		sumX += x;
+		sumY += y;
+	}
+
+	@Override
+	public void begin() {
+		drawing = true;
+	}
+
+	@Override
+	public void end() {
+		drawing = false;
+	}
+
+	@Override
+	public void setColor(Color tint) {
+		color.set(tint);
+	}
+
+	@Override
+	public void setColor(float r, float g, float b, float a) {
+		color.set(r, g, b, a);
+	}
+
+	@Override
+	public Color getColor() {
+		return color;
+	}
+
+	@Override
+	public void setPackedColor(float packedColor) {
+		Color.abgr8888ToColor(color, packedColor);
+	}
+
+	@Override
+	public float getPackedColor() {
+		return color.toFloatBits();
+	}
+
+	@Override
+	public void draw(Texture texture, float x, float y, float originX, float originY, float width, float height, float scaleX, float scaleY, float rotation, int srcX, int srcY, int srcWidth, int srcHeight, boolean flipX, boolean flipY) {
+		record(x, y);
+	}
+
+	@Override
+	public void draw(Texture texture, float x, float y, float width, float height, int srcX, int srcY, int srcWidth, int srcHeight, boolean flipX, boolean flipY) {
+		record(x, y);
+	}
+
+	@Override
+	public void draw(Texture texture, float x, float y, int srcX, int srcY, int srcWidth, int srcHeight) {
+		record(x, y);
+	}
+
+	@Override
+	public void draw(Texture texture, float x, float y, float width, float height, float u, float v, float u2, float v2) {
+		record(x, y);
+	}
+
+	@Override
+	public void draw(Texture texture, float x, float y) {
+		record(x, y);
+	}
+
+	@Override
+	public void draw(Texture texture, float x, float y, float width, float height) {
+		record(x, y);
+	}
+
+	@Override
+	public void draw(Texture texture, float[] spriteVertices, int offset, int count) {
+		record(spriteVertices[offset], spriteVertices[offset + 1]);
+	}
+
+	@Override
+	public void draw(TextureRegion region, float x, float y) {
+		record(x, y);
+	}
+
+	@Override
+	public void draw(TextureRegion region, float x, float y, float width, float height) {
+		record(x, y);
+	}
+
+	@Override
+	public void draw(TextureRegion region, float x, float y, float originX, float originY, float width, float height, float scaleX, float scaleY, float rotation) {
+		record(x, y);
+	}
+
+	@Override
+	public void draw(TextureRegion region, float x, float y, float originX, float originY, float width, float height, float scaleX, float scaleY, float rotation, boolean clockwise) {
+		record(x, y);
+	}
+
+	@Override
+	public void draw(TextureRegion region, float width, float height, Affine2 transform) {
+		record(transform.m02, transform.m12);
+	}
+
+	@Override
+	public void flush() {}
+
+	@Override
+	public void disableBlending() {
+		blending = false;
+	}
+
+	@Override
+	public void enableBlending() {
+		blending = true;
+	}
+
+	@Override
+	public void setBlendFunction(int srcFunc, int dstFunc) {
+		setBlendFunctionSeparate(srcFunc, dstFunc, srcFunc, dstFunc);
+	}
+
+	@Override
+	public void setBlendFunctionSeparate(int srcFuncColor, int dstFuncColor, int srcFuncAlpha, int dstFuncAlpha) {
+		blendSrcFunc = srcFuncColor;
+		blendDstFunc = dstFuncColor;
+		blendSrcFuncAlpha = srcFuncAlpha;
+		blendDstFuncAlpha = dstFuncAlpha;
+	}
+
+	@Override
+	public int getBlendSrcFunc() {
+		return blendSrcFunc;
+	}
+
+	@Override
+	public int getBlendDstFunc() {
+		return blendDstFunc;
+	}
+
+	@Override
+	public int getBlendSrcFuncAlpha() {
+		return blendSrcFuncAlpha;
+	}
+
+	@Override
+	public int getBlendDstFuncAlpha() {
+		return blendDstFuncAlpha;
+	}
+
+	@Override
+	public Matrix4 getProjectionMatrix() {
+		return projectionMatrix;
+	}
+
+	@Override
+	public Matrix4 getTransformMatrix() {
+		return transformMatrix;
+	}
+
+	@Override
+	public void setProjectionMatrix(Matrix4 projection) {
+		projectionMatrix.set(projection);
+	}
+
+	@Override
+	public void setTransformMatrix(Matrix4 transform) {
+		transformMatrix.set(transform);
+	}
+
+	@Override
+	public void setShader(ShaderProgram shader) {
+		this.shader = shader;
+	}
+
+	@Override
+	public ShaderProgram getShader() {
+		return shader;
+	}
+
+	@Override
+	public boolean isBlendingEnabled() {
+		return blending;
+	}
+
+	@Override
+	public boolean isDrawing() {
+		return drawing;
+	}
+
+	@Override
+	public void dispose() {}
+
+}
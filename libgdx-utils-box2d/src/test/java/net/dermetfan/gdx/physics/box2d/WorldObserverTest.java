@@ -0,0 +1,57 @@
+package net.dermetfan.gdx.physics.box2d;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.Body;
+import com.badlogic.gdx.physics.box2d.BodyDef;
+import com.badlogic.gdx.physics.box2d.BodyDef.BodyType;
+import com.badlogic.gdx.physics.box2d.Box2D;
+import com.badlogic.gdx.physics.box2d.PolygonShape;
+import com.badlogic.gdx.physics.box2d.World;
+import com.badlogic.gdx.physics.box2d.joints.DistanceJointDef;
+import com.badlogic.gdx.utils.GdxNativesLoader;
+import net.dermetfan.utils.Allocations;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public class WorldObserverTest {
+
+	private static World world;
+
+	@BeforeClass
+	public static void createWorld() {
+		GdxNativesLoader.load();
+		Box2D.init();
+		world = new World(new Vector2(0, -9.81f), true);
+		BodyDef bodyDef = new BodyDef();
+		bodyDef.type = BodyType.DynamicBody;
+		PolygonShape shape = new PolygonShape();
+		shape.setAsBox(.5f, .5f);
+		DistanceJointDef jointDef = new DistanceJointDef();
+		Body previous = null;
+		for(int i = 0; i < 100; i++) {
+			bodyDef.position.set(i % 10 * 2, i / 10 * 2);
+			Body body = world.createBody(bodyDef);
+			body.createFixture(shape, 1);
+			if(previous != null && i % 10 != 0) {
+				jointDef.initialize(previous, body, previous.getPosition(), body.getPosition());
+				world.createJoint(jointDef);
+			}
+			previous = body;
+		}
+		shape.dispose();
+	}
+
+	@AfterClass
+	public static void disposeWorld() {
+		world.dispose();
+	}
+
+	@Test
+	public void updateAllocation() {
+		WorldObserver observer = new WorldObserver(new WorldObserver.Listener.Adapter());
+		observer.update(world, 1 / 60f);
+		Allocations.assertNoAllocation("WorldObserver#update without changes", () -> observer.update(world, 1 / 60f));
+	}
+
+}
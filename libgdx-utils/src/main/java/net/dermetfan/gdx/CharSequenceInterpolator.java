@@ -54,7 +54,13 @@ public class CharSequenceInterpolator {
 	 *  @param interpolation the {@code Interpolation} to use
 	 *  @return a {@link CharSequence#subSequence(int, int) subsequence} representing the given {@code seq} from {@code beginIndex} to {@code endIndex} with its {@link CharSequence#length() length} interpolated using the given {@code interpolation} */
 	public static CharSequence interpolate(CharSequence seq, float time, float charsPerSecond, int beginIndex, int endIndex, Interpolation interpolation) {
-		return seq.subSequence(beginIndex, (int) com.badlogic.gdx.math.MathUtils.clamp(MathUtils.replaceNaN(interpolation.apply(beginIndex, endIndex, linear(time, charsPerSecond, endIndex - beginIndex)), 0), beginIndex, endIndex));
+		return seq.subSequence(beginIndex, interpolateIndex(time, charsPerSecond, beginIndex, endIndex, interpolation));
+	}
+
+	/** @return the end index of the {@link #interpolate(CharSequence, float, float, int, int, Interpolation) interpolated} subsequence, without creating it
+	 *  @since 0.13.8 */
+	public static int interpolateIndex(float time, float charsPerSecond, int beginIndex, int endIndex, Interpolation interpolation) {
+		return (int) com.badlogic.gdx.math.MathUtils.clamp(MathUtils.replaceNaN(interpolation.apply(beginIndex, endIndex, linear(time, charsPerSecond, endIndex - beginIndex)), 0), beginIndex, endIndex);
 	}
 
 	/** the {@link Interpolation} to use */
@@ -81,6 +87,12 @@ public class CharSequenceInterpolator {
 		return interpolate(seq, time, charsPerSecond, interpolation);
 	}
 
+	/** @return the end index of the {@link #interpolate(CharSequence) interpolated} subsequence of a {@code CharSequence} of the given length
+	 *  @since 0.13.8 */
+	public int interpolateIndex(int length) {
+		return interpolateIndex(time, charsPerSecond, 0, length, interpolation);
+	}
+
 	/** {@link #update(float) updates} the {@link #time} and returns the {@link #interpolate(CharSequence) interpolated} given {@code CharSequence} */
 	public CharSequence updateAndInterpolate(CharSequence seq, float delta) {
 		update(delta);
@@ -73,6 +73,19 @@ public class Typewriter {
 		return str;
 	}
 
+	/** Like {@link #type(CharSequence)} but writes into the given {@code StringBuilder} instead of creating new Strings, so it does not allocate once {@code out} is large enough.
+	 *  @param out the {@code StringBuilder} to replace the contents of
+	 *  @return the given {@code StringBuilder}
+	 *  @since 0.13.8 */
+	public StringBuilder type(CharSequence seq, StringBuilder out) {
+		int length = seq.length(), end = interpolator.interpolateIndex(length);
+		out.setLength(0);
+		out.append(seq, 0, end);
+		if(end == length ? cursorAfterTyping : cursorWhileTyping)
+			out.append(appender.getAppendix());
+		return out;
+	}
+
 	/** @see #update(float)
 	 *  @see #type(CharSequence) */
 	public CharSequence updateAndType(CharSequence seq, float delta) {
@@ -80,6 +93,14 @@ public class Typewriter {
 		return type(seq);
 	}
 
+	/** @see #update(float)
+	 *  @see #type(CharSequence, StringBuilder)
+	 *  @since 0.13.8 */
+	public StringBuilder updateAndType(CharSequence seq, float delta, StringBuilder out) {
+		update(delta);
+		return type(seq, out);
+	}
+
 	/** @see CharSequenceInterpolator#getCharsPerSecond() */
 	public float getCharsPerSecond() {
 		return interpolator.getCharsPerSecond();
@@ -50,6 +50,7 @@ import com.badlogic.gdx.utils.FloatArray;
 import com.badlogic.gdx.utils.Pools;
 import com.badlogic.gdx.utils.XmlWriter;
 import net.dermetfan.gdx.math.GeometryUtils;
+import net.dermetfan.gdx.utils.ArrayPools;
 
 import static com.badlogic.gdx.math.MathUtils.round;
 import static net.dermetfan.gdx.maps.MapUtils.getProperty;
@@ -292,19 +293,23 @@ public class TmxMapWriter extends XmlWriter {
 				attribute("compression", "zlib");
 			else if(format == Base64Gzip)
 				attribute("compression", "gzip");
-			ByteArrayOutputStream baos = new ByteArrayOutputStream();
-			OutputStream out = format == Base64Zlib ? new DeflaterOutputStream(baos) : format == Base64Gzip ? new GZIPOutputStream(baos) : baos;
-			final short LAST_BYTE = 0xFF;
+			int length = layer.getWidth() * layer.getHeight() * 4;
+			byte[] gids = ArrayPools.obtainBytes(length);
+			int i = 0;
 			for(int y = layer.getHeight() - 1; y > -1; y--)
 				for(int x = 0; x < layer.getWidth(); x++) {
 					Cell cell = layer.getCell(x, y);
 					TiledMapTile tile = cell != null ? cell.getTile() : null;
 					int gid = tile != null ? tile.getId() : 0;
-					out.write(gid & LAST_BYTE);
-					out.write(gid >> 8 & LAST_BYTE);
-					out.write(gid >> 16 & LAST_BYTE);
-					out.write(gid >> 24 & LAST_BYTE);
+					gids[i++] = (byte) gid;
+					gids[i++] = (byte) (gid >> 8);
+					gids[i++] = (byte) (gid >> 16);
+					gids[i++] = (byte) (gid >> 24);
 				}
+			ByteArrayOutputStream baos = new ByteArrayOutputStream(length);
+			OutputStream out = format == Base64Zlib ? new DeflaterOutputStream(baos) : format == Base64Gzip ? new GZIPOutputStream(baos) : baos;
+			out.write(gids, 0, length);
+			ArrayPools.free(gids);
 			if(out instanceof DeflaterOutputStream)
 				((DeflaterOutputStream) out).finish();
 			out.close();
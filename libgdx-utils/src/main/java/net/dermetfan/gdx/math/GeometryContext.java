@@ -0,0 +1,45 @@
+package net.dermetfan.gdx.math;
+
+import com.badlogic.gdx.math.EarClippingTriangulator;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.FloatArray;
+
+/** scratch space for the methods of {@link GeometryUtils} that need temporary objects, see {@link net.dermetfan.utils.math.GeometryContext}
+ *  @since 0.13.8 */
+public class GeometryContext extends net.dermetfan.utils.math.GeometryContext {
+
+	/** a temporary FloatArray */
+	private final FloatArray floatArray = new FloatArray();
+
+	/** a temporary Array of Vector2s */
+	private final Array<Vector2> vector2Array = new Array<>();
+
+	/** the triangulator to use instead of a pooled one */
+	private final EarClippingTriangulator triangulator = new EarClippingTriangulator();
+
+	public GeometryContext() {}
+
+	/** @see net.dermetfan.utils.math.GeometryContext#GeometryContext(int) */
+	public GeometryContext(int capacity) {
+		super(capacity);
+	}
+
+	// getters
+
+	/** @return the {@link #floatArray} */
+	public FloatArray getFloatArray() {
+		return floatArray;
+	}
+
+	/** @return the {@link #vector2Array} */
+	public Array<Vector2> getVector2Array() {
+		return vector2Array;
+	}
+
+	/** @return the {@link #triangulator} */
+	public EarClippingTriangulator getTriangulator() {
+		return triangulator;
+	}
+
+}
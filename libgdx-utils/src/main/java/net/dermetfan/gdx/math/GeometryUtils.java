@@ -49,6 +49,9 @@ public class GeometryUtils extends net.dermetfan.utils.math.GeometryUtils {
 	/** a temporarily used array, returned by some methods */
 	private static final FloatArray tmpFloatArray = new FloatArray();
 
+	/** the scratch space of {@link #triangulate(float[], int, int)} and {@link #decompose(float[], int, int)}, which makes them unsafe to use from multiple threads */
+	private static final GeometryContext context = new GeometryContext();
+
 	/** @see net.dermetfan.utils.math.GeometryUtils#between(float, float, float, float, float, float, boolean) */
 	public static boolean between(Vector2 point, Vector2 a, Vector2 b, boolean inclusive) {
 		return between(point.x, point.y, a.x, a.y, b.x, b.y, inclusive);
@@ -497,7 +500,15 @@ public class GeometryUtils extends net.dermetfan.utils.math.GeometryUtils {
 
 	/** @see #areVerticesClockwise(FloatArray) */
 	public static boolean areVerticesClockwise(Array<Vector2> vertices) {
-		return vertices.size <= 2 || areVerticesClockwise(toFloatArray(vertices));
+		if(vertices.size <= 2)
+			return true;
+		float area = 0;
+		for(int i = 0; i < vertices.size; i++) {
+			Vector2 vertex = vertices.get(i), next = vertices.get((i + 1) % vertices.size);
+			area += vertex.x * next.y;
+			area -= vertex.y * next.x;
+		}
+		return area < 0;
 	}
 
 	/** @see com.badlogic.gdx.math.GeometryUtils#polygonArea(float[], int, int) */
@@ -510,6 +521,16 @@ public class GeometryUtils extends net.dermetfan.utils.math.GeometryUtils {
 		arrangeConvexPolygon(vertices.items, 0, vertices.size, clockwise);
 	}
 
+	/** @param output the FloatArray to set to the convex hull of the given points, must not be the same as points
+	 *  @return the given output
+	 *  @see #convexHull(float[], int, int, float[])
+	 *  @since 0.13.8 */
+	public static FloatArray convexHull(FloatArray points, FloatArray output) {
+		output.clear();
+		output.size = convexHull(points.items, 0, points.size, output.ensureCapacity(points.size));
+		return output;
+	}
+
 	/** @see #invertAxes(float[], int, int, boolean, boolean) */
 	public static FloatArray invertAxes(FloatArray vertices, boolean x, boolean y) {
 		invertAxes(vertices.items, 0, vertices.size, x, y);
@@ -574,15 +595,20 @@ public class GeometryUtils extends net.dermetfan.utils.math.GeometryUtils {
 	 *  @return the triangles created from the polygon
 	 *  @see EarClippingTriangulator */
 	public static float[][] triangulate(float[] polygon, int offset, int length) {
-		EarClippingTriangulator triangulator = Pools.obtain(EarClippingTriangulator.class);
-		ShortArray indices = triangulator.computeTriangles(polygon, offset, length);
-		Pools.free(triangulator);
+		return triangulate(polygon, offset, length, context);
+	}
+
+	/** @param context the scratch space to use
+	 *  @see #triangulate(float[], int, int)
+	 *  @since 0.13.8 */
+	public static float[][] triangulate(float[] polygon, int offset, int length, GeometryContext context) {
+		ShortArray indices = context.getTriangulator().computeTriangles(polygon, offset, length);
 
 		float[][] triangles = new float[indices.size / 3][];
 		for(int ti = 0, i = 0; i < indices.size; ti++, i += 3) {
-			int p1 = indices.get(i) * 2;
-			int p2 = indices.get(i + 1) * 2;
-			int p3 = indices.get(i + 2) * 2;
+			int p1 = offset + indices.get(i) * 2;
+			int p2 = offset + indices.get(i + 1) * 2;
+			int p3 = offset + indices.get(i + 2) * 2;
 			triangles[ti] = new float[] {
 					polygon[p1], polygon[p1 + 1],
 					polygon[p2], polygon[p2 + 1],
@@ -601,13 +627,22 @@ public class GeometryUtils extends net.dermetfan.utils.math.GeometryUtils {
 	 *  @return an array of convex polygons representing the given concave polygon
 	 *  @see BayazitDecomposer#convexPartition(Array) */
 	public static float[][] decompose(float[] concave, int offset, int length) {
+		return decompose(concave, offset, length, context);
+	}
+
+	/** @param context the scratch space to use
+	 *  @see #decompose(float[], int, int)
+	 *  @since 0.13.8 */
+	public static float[][] decompose(float[] concave, int offset, int length, GeometryContext context) {
 		ArrayUtils.checkRegion(concave, offset, length);
-		tmpFloatArray.clear();
-		tmpFloatArray.addAll(concave, offset, length);
-		Array<Array<Vector2>> convexPolys = BayazitDecomposer.convexPartition(toVector2Array(tmpFloatArray));
+		FloatArray floats = context.getFloatArray();
+		floats.clear();
+		floats.addAll(concave, offset, length);
+		Array<Array<Vector2>> convexPolys = BayazitDecomposer.convexPartition(toVector2Array(floats, context.getVector2Array()));
 		float[][] convexPolygons = new float[convexPolys.size][];
 		for(int i = 0; i < convexPolygons.length; i++)
-			convexPolygons[i] = toFloatArray(convexPolys.get(i)).toArray();
+			convexPolygons[i] = toFloatArray(convexPolys.get(i), floats).toArray();
+		context.getVector2Array().clear();
 		return convexPolygons;
 	}
 
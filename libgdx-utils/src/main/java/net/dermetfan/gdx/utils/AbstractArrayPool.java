@@ -0,0 +1,521 @@
+package net.dermetfan.gdx.utils;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IdentityMap;
+import com.badlogic.gdx.utils.IntMap;
+import com.badlogic.gdx.utils.Pool;
+
+/** The common implementation of the array pools. Free arrays are kept in stacks called buckets, so obtaining and freeing arrays takes constant time.
+ *  Besides {@link #max} and {@link #maxEach}, the pooled arrays can be limited to a {@link #setMaxBytes(long) number of bytes}, evicting the least recently used buckets first, and to buckets {@link #setMaxIdle(int) used recently}.
+ *  The buckets are kept in a list ordered by their last use, so evicting arrays also takes constant time per evicted array.
+ *  For debugging, pools can {@link #setTracking(boolean) track} the arrays on loan to find arrays that are never freed, freed twice or freed into the wrong pool.
+ *  By default each length has its own bucket. Subclasses can share buckets between lengths by overriding {@link #freeBucket(int)}, {@link #obtainBucket(int)}, {@link #newLength(int)} and {@link #find(int)}.
+ *  @param <A> the array type, for example {@code float[]} or {@code T[]}
+ *  @since 0.13.8 */
+public abstract class AbstractArrayPool<A> {
+
+	/** the pools that are {@link #isTracking() tracking}, to find the pool an array was obtained from. Guards itself and the {@link #loans} of all pools, so that tracking pools can be used on different threads. */
+	private static final Array<AbstractArrayPool> trackingPools = new Array<>(false, 4);
+
+	/** the buckets by key */
+	private final IntMap<Bucket<A>> buckets;
+
+	/** pools empty buckets */
+	private final Pool<Bucket<A>> bucketPool;
+
+	/** the most recently used bucket, null if the pool is empty */
+	private Bucket<A> head;
+
+	/** the least recently used bucket, null if the pool is empty */
+	private Bucket<A> tail;
+
+	/** the maximum amount of buckets (usually arrays of different lengths) that will be pooled, negative for no limit */
+	public final int max;
+
+	/** the maximum amount of arrays in the same bucket (usually of the same length) that will be pooled */
+	public final int maxEach;
+
+	/** the number of arrays in the pool */
+	private int retained;
+
+	/** the number of bytes of the arrays in the pool */
+	private long retainedBytes;
+
+	/** the counters, null if {@link #isStatsEnabled() disabled} */
+	private ArrayPoolStats stats;
+
+	/** the maximum number of bytes of the arrays in the pool, negative for no limit */
+	private long maxBytes = -1;
+
+	/** the maximum number of obtains a bucket may be unused before it is dropped, negative for no limit */
+	private int maxIdle = -1;
+
+	/** the number of obtains so far, used as the time of the last use of buckets */
+	private long clock;
+
+	/** the call sites of the arrays on loan, null if {@link #isTracking() tracking} is disabled */
+	private IdentityMap<A, Throwable> loans;
+
+	public AbstractArrayPool(int max, final int maxEach) {
+		this.max = max;
+		this.maxEach = maxEach;
+
+		buckets = new IntMap<>(max < 0 ? 10 : max, 0.9f);
+		bucketPool = new Pool<Bucket<A>>() {
+			@Override
+			protected Bucket<A> newObject() {
+				return new Bucket<>(Math.max(Math.min(maxEach, 16), 1));
+			}
+		};
+	}
+
+	/** @return a new array of the given length */
+	protected abstract A newArray(int length);
+
+	/** @return the length of the given array */
+	protected abstract int length(A array);
+
+	/** @return the number of bytes of an element, an estimate for references */
+	protected abstract int elementBytes();
+
+	/** @return the number of bytes of the elements of the given array */
+	protected long bytes(A array) {
+		return (long) length(array) * elementBytes();
+	}
+
+	/** @param length the length of a freed array
+	 *  @return the key of the bucket to keep the array in (the length by default) */
+	protected int freeBucket(int length) {
+		return length;
+	}
+
+	/** @param length the requested length
+	 *  @return the key of the bucket in which every array can be returned for the requested length (the length by default) */
+	protected int obtainBucket(int length) {
+		return length;
+	}
+
+	/** @param length the requested length
+	 *  @return the length of a new array if no pooled array can be returned (the length by default) */
+	protected int newLength(int length) {
+		return length;
+	}
+
+	/** @param length the desired length of the array */
+	public A obtain(int length) {
+		A array = poll(length);
+		if(array == null) {
+			array = newArray(newLength(length));
+			if(loans != null)
+				lend(array, length);
+		}
+		return array;
+	}
+
+	/** @param length the desired length of the array
+	 *  @return a pooled array for the given length, or null if there is none */
+	public A poll(int length) {
+		if(length < 0)
+			throw new IllegalArgumentException("negative array length: " + length);
+		clock++;
+		if(maxIdle >= 0)
+			trimIdle();
+		A array = find(length);
+		if(stats != null) {
+			stats.obtains++;
+			if(array != null)
+				stats.hits++;
+			else
+				stats.misses++;
+		}
+		if(array != null && loans != null)
+			lend(array, length);
+		return array;
+	}
+
+	/** records the call site of an obtained array */
+	private void lend(A array, int length) {
+		Throwable callSite = new Throwable("array of length " + length + " obtained here");
+		synchronized(trackingPools) {
+			if(loans != null)
+				loans.put(array, callSite);
+		}
+	}
+
+	/** ends the loan of a freed array
+	 *  @throws IllegalStateException if the array was freed twice or obtained from another tracking pool */
+	private void giveBack(A array) {
+		synchronized(trackingPools) {
+			if(loans == null || loans.remove(array) != null)
+				return;
+			for(int i = 0; i < trackingPools.size; i++) {
+				AbstractArrayPool pool = trackingPools.get(i);
+				Throwable callSite = (Throwable) pool.loans.get(array);
+				if(callSite != null)
+					throw new IllegalStateException("array freed into " + this + " but obtained from " + pool, callSite);
+			}
+		}
+		Bucket<A> bucket = buckets.get(freeBucket(length(array)));
+		if(bucket != null && bucket.contains(array))
+			throw new IllegalStateException("array freed twice");
+	}
+
+	/** @param length the requested length, not negative
+	 *  @return a pooled array for the given length removed from its bucket, or null if there is none */
+	protected A find(int length) {
+		return pop(obtainBucket(length), length);
+	}
+
+	/** @param key the key of the bucket
+	 *  @param minLength the minimum length of the array
+	 *  @return the last freed array in the given bucket if it is at least the given length, otherwise null */
+	protected A pop(int key, int minLength) {
+		Bucket<A> bucket = buckets.get(key);
+		if(bucket == null || length(bucket.peek()) < minLength)
+			return null;
+		touch(bucket);
+		return removed(bucket, bucket.pop());
+	}
+
+	/** updates the counters for an array removed from the given bucket and removes the bucket if it is empty
+	 *  @return the removed array */
+	private A removed(Bucket<A> bucket, A array) {
+		if(bucket.size == 0) {
+			unlink(bucket);
+			buckets.remove(bucket.key);
+			bucketPool.free(bucket);
+		}
+		retained--;
+		retainedBytes -= bytes(array);
+		return array;
+	}
+
+	/** makes the given bucket the most recently used one */
+	private void touch(Bucket<A> bucket) {
+		bucket.lastUse = clock;
+		if(head == bucket)
+			return;
+		unlink(bucket);
+		bucket.next = head;
+		if(head != null)
+			head.previous = bucket;
+		head = bucket;
+		if(tail == null)
+			tail = bucket;
+	}
+
+	/** removes the given bucket from the list of buckets ordered by use */
+	private void unlink(Bucket<A> bucket) {
+		if(bucket.previous != null)
+			bucket.previous.next = bucket.next;
+		else if(head == bucket)
+			head = bucket.next;
+		if(bucket.next != null)
+			bucket.next.previous = bucket.previous;
+		else if(tail == bucket)
+			tail = bucket.previous;
+		bucket.previous = bucket.next = null;
+	}
+
+	/** @param array the array to put back into the pool
+	 *  @see #offer(Object) */
+	public void free(A array) {
+		offer(array);
+	}
+
+	/** like {@link #free(Object)} but tells if the array was pooled
+	 *  @param array the array to put back into the pool
+	 *  @return if the array was pooled, false if the pool is full or the array alone exceeds the {@link #setMaxBytes(long) byte budget} */
+	public boolean offer(A array) {
+		if(array == null)
+			throw new IllegalArgumentException("array cannot be null");
+		if(loans != null)
+			giveBack(array);
+		long bytes = bytes(array);
+		boolean fits = maxBytes < 0 || bytes <= maxBytes; // otherwise it would evict everything including itself
+		int key = freeBucket(length(array));
+		Bucket<A> bucket = buckets.get(key);
+		if(bucket == null && fits && maxEach > 0 && (max < 0 || buckets.size < max)) {
+			bucket = bucketPool.obtain();
+			bucket.key = key;
+			buckets.put(key, bucket);
+		}
+		if(bucket == null || !fits || bucket.size >= maxEach) {
+			if(stats != null) {
+				stats.frees++;
+				stats.drops++;
+			}
+			return false;
+		}
+		bucket.add(array);
+		touch(bucket);
+		retained++;
+		retainedBytes += bytes;
+		if(stats != null) {
+			stats.frees++;
+			stats.highWaterRetained = Math.max(stats.highWaterRetained, retained);
+			stats.highWaterRetainedBytes = Math.max(stats.highWaterRetainedBytes, retainedBytes);
+		}
+		if(maxBytes >= 0 && retainedBytes > maxBytes)
+			trim(maxBytes);
+		return true;
+	}
+
+	/** drops the buckets that were not used for more than {@link #maxIdle} obtains and evicts arrays until the pool takes up at most {@link #maxBytes}
+	 *  @see #trim(long) */
+	public void trim() {
+		trimIdle();
+		if(maxBytes >= 0)
+			trim(maxBytes);
+	}
+
+	/** evicts the oldest arrays of the least recently used buckets until the arrays in the pool take up at most the given number of bytes
+	 *  @param maxBytes the number of bytes to trim the pool to, 0 to drop all arrays, negative to keep all arrays */
+	public void trim(long maxBytes) {
+		if(maxBytes < 0)
+			return;
+		while(retainedBytes > maxBytes) {
+			Bucket<A> lru = tail;
+			removed(lru, lru.poll());
+			if(stats != null)
+				stats.evictions++;
+		}
+	}
+
+	/** drops the buckets that were not used for more than {@link #maxIdle} obtains, starting with the least recently used one */
+	private void trimIdle() {
+		if(maxIdle < 0)
+			return;
+		while(tail != null && clock - tail.lastUse > maxIdle) {
+			Bucket<A> bucket = tail;
+			while(bucket.size > 0) {
+				removed(bucket, bucket.pop());
+				if(stats != null)
+					stats.evictions++;
+			}
+		}
+	}
+
+	public void clear() {
+		for(Bucket<A> bucket : buckets.values()) {
+			bucket.clear();
+			bucket.previous = bucket.next = null;
+			bucketPool.free(bucket);
+		}
+		buckets.clear();
+		head = tail = null;
+		retained = 0;
+		retainedBytes = 0;
+	}
+
+	/** @return the number of arrays in the pool that can be obtained for the given length */
+	public int getFree(int length) {
+		Bucket<A> bucket = buckets.get(obtainBucket(length));
+		return bucket == null ? 0 : bucket.size;
+	}
+
+	/** @return the number of arrays in the pool */
+	public int getRetained() {
+		return retained;
+	}
+
+	/** @return the number of bytes of the arrays in the pool */
+	public long getRetainedBytes() {
+		return retainedBytes;
+	}
+
+	/** @param statsEnabled if obtains, frees and high-water marks should be counted, disabled by default so that the pool does no extra work */
+	public void setStatsEnabled(boolean statsEnabled) {
+		if(statsEnabled == (stats != null))
+			return;
+		stats = statsEnabled ? new ArrayPoolStats() : null;
+		resetStats();
+	}
+
+	/** @return if obtains, frees and high-water marks are counted */
+	public boolean isStatsEnabled() {
+		return stats != null;
+	}
+
+	/** resets the counters and sets the high-water marks to the current values */
+	public void resetStats() {
+		if(stats == null)
+			return;
+		stats.reset();
+		stats.highWaterRetained = retained;
+		stats.highWaterRetainedBytes = retainedBytes;
+	}
+
+	/** @param snapshot the ArrayPoolStats to write the current counters and retained arrays and bytes to, counters are zero if stats are not {@link #isStatsEnabled() enabled}
+	 *  @return the given ArrayPoolStats */
+	public ArrayPoolStats getStats(ArrayPoolStats snapshot) {
+		if(stats != null)
+			snapshot.set(stats);
+		else
+			snapshot.reset();
+		snapshot.retained = retained;
+		snapshot.retainedBytes = retainedBytes;
+		snapshot.retainedArrays.clear();
+		snapshot.retainedArrayBytes.clear();
+		for(IntMap.Entry<Bucket<A>> entry : buckets.entries()) {
+			Bucket<A> bucket = entry.value;
+			long bytes = 0;
+			for(int i = 0; i < bucket.size; i++)
+				bytes += bytes(bucket.get(i));
+			snapshot.retainedArrays.put(entry.key, bucket.size);
+			snapshot.retainedArrayBytes.put(entry.key, bytes);
+		}
+		return snapshot;
+	}
+
+	/** @return the maximum number of bytes of the arrays in the pool, negative for no limit */
+	public long getMaxBytes() {
+		return maxBytes;
+	}
+
+	/** @param maxBytes the maximum number of bytes of the arrays in the pool, negative for no limit (the default), arrays are evicted if necessary */
+	public void setMaxBytes(long maxBytes) {
+		this.maxBytes = maxBytes;
+		if(maxBytes >= 0)
+			trim(maxBytes);
+	}
+
+	/** @return the maximum number of obtains a bucket may be unused before it is dropped, negative for no limit */
+	public int getMaxIdle() {
+		return maxIdle;
+	}
+
+	/** @param maxIdle the maximum number of obtains a bucket may be unused before it is dropped, negative for no limit (the default). Idle buckets are dropped on obtain and on {@link #trim()}. */
+	public void setMaxIdle(int maxIdle) {
+		this.maxIdle = maxIdle;
+	}
+
+	/** Tracking records a call site for every obtained array, which is slow, so it is disabled by default and costs nothing then.
+	 *  Freeing an array twice or into another tracking pool than it was obtained from throws an {@link IllegalStateException} with the call site of the obtain as cause.
+	 *  Arrays that were not obtained while tracking can still be freed. The records of all tracking pools are guarded by one lock, so different tracking pools can be used on different threads.
+	 *  @param tracking if the arrays on loan and their call sites should be recorded */
+	public void setTracking(boolean tracking) {
+		synchronized(trackingPools) {
+			if(tracking == (loans != null))
+				return;
+			if(tracking) {
+				loans = new IdentityMap<>();
+				trackingPools.add(this);
+			} else {
+				loans = null;
+				trackingPools.removeValue(this, true);
+			}
+		}
+	}
+
+	/** @return if the arrays on loan are recorded */
+	public boolean isTracking() {
+		return loans != null;
+	}
+
+	/** @return the number of arrays obtained while {@link #isTracking() tracking} that were not freed yet */
+	public int getLoans() {
+		synchronized(trackingPools) {
+			return loans == null ? 0 : loans.size;
+		}
+	}
+
+	/** @param callSites the Array to add the call sites of the arrays on loan to, for example to print their stack traces when a level ends
+	 *  @return the given Array */
+	public Array<Throwable> getLoans(Array<Throwable> callSites) {
+		synchronized(trackingPools) {
+			if(loans != null)
+				for(Throwable callSite : loans.values())
+					callSites.add(callSite);
+		}
+		return callSites;
+	}
+
+	/** a bucket that knows when it was used last, a ring of arrays from which the last freed array is obtained and the first freed array is evicted */
+	private static class Bucket<A> {
+
+		/** the key of this bucket */
+		int key;
+
+		/** the clock of the pool at the last obtain or free */
+		long lastUse;
+
+		/** the more and less recently used buckets */
+		Bucket<A> previous, next;
+
+		/** the arrays, starting at {@link #first} */
+		Object[] items;
+
+		/** the index of the first freed array in {@link #items} */
+		int first;
+
+		/** the number of arrays */
+		int size;
+
+		Bucket(int capacity) {
+			items = new Object[capacity];
+		}
+
+		void add(A array) {
+			if(size == items.length) {
+				Object[] newItems = new Object[Math.max(size * 2, 1)];
+				for(int i = 0; i < size; i++)
+					newItems[i] = items[index(i)];
+				items = newItems;
+				first = 0;
+			}
+			items[index(size++)] = array;
+		}
+
+		/** @return the array at the given position from the first freed array */
+		@SuppressWarnings("unchecked")
+		A get(int i) {
+			return (A) items[index(i)];
+		}
+
+		/** @return the last freed array */
+		@SuppressWarnings("unchecked")
+		A peek() {
+			return (A) items[index(size - 1)];
+		}
+
+		/** @return the last freed array, removed */
+		A pop() {
+			A array = peek();
+			items[index(--size)] = null;
+			return array;
+		}
+
+		/** @return the first freed array, removed */
+		@SuppressWarnings("unchecked")
+		A poll() {
+			A array = (A) items[first];
+			items[first] = null;
+			first = index(1);
+			size--;
+			return array;
+		}
+
+		/** @return if the given array is in this bucket (compared by identity) */
+		boolean contains(A array) {
+			for(int i = 0; i < size; i++)
+				if(items[index(i)] == array)
+					return true;
+			return false;
+		}
+
+		void clear() {
+			for(int i = 0; i < size; i++)
+				items[index(i)] = null;
+			first = size = 0;
+		}
+
+		/** @return the index in {@link #items} of the array at the given position from {@link #first} */
+		private int index(int i) {
+			i += first;
+			return i < items.length ? i : i - items.length;
+		}
+
+	}
+
+}
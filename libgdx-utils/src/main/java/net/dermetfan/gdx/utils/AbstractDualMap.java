@@ -0,0 +1,233 @@
+package net.dermetfan.gdx.utils;
+
+import java.util.Arrays;
+
+/** The common implementation of the bidirectional maps. The keys and values are stored once in parallel arrays and two open addressing tables hold the indices of the entries by the hash of their keys and values.
+ *  This takes about half the memory of two maps and finds, adds and removes entries with one probe sequence per direction.
+ *  Removing an entry moves the last entry into its place, so {@link #getValueAt(int) iteration} order changes. Values cannot be null and are compared using {@link Object#equals(Object) equals}.
+ *  @param <V> the value type
+ *  @since 0.13.8 */
+public abstract class AbstractDualMap<V> {
+
+	/** the values of the entries, parallel to the keys */
+	protected V[] values;
+
+	/** the number of entries */
+	protected int size;
+
+	/** the indices of the entries plus one by the hash of their keys, zero for empty slots */
+	private int[] keyTable;
+
+	/** the indices of the entries plus one by the hash of their values, zero for empty slots */
+	private int[] valueTable;
+
+	/** the number of bits to shift a 64 bit hash to get a slot */
+	protected int shift;
+
+	/** the mask for slots */
+	private int mask;
+
+	/** the maximum ratio of entries to slots */
+	private final float loadFactor;
+
+	/** the number of entries at which the tables grow */
+	private int threshold;
+
+	/** @param initialCapacity the number of entries the map can hold before growing
+	 *  @param loadFactor the maximum ratio of entries to slots in the tables, greater than 0 and less than 1 */
+	public AbstractDualMap(int initialCapacity, float loadFactor) {
+		if(initialCapacity < 0)
+			throw new IllegalArgumentException("initialCapacity must be >= 0: " + initialCapacity);
+		if(loadFactor <= 0 || loadFactor >= 1)
+			throw new IllegalArgumentException("loadFactor must be > 0 and < 1: " + loadFactor);
+		this.loadFactor = loadFactor;
+		long tableSize = Math.max(2, (long) Math.ceil(initialCapacity / loadFactor));
+		if(tableSize > 1 << 30)
+			throw new IllegalArgumentException("initialCapacity is too large: " + initialCapacity);
+		setTableSize(Integer.highestOneBit((int) tableSize - 1) << 1);
+	}
+
+	/** @param map the map to copy */
+	protected AbstractDualMap(AbstractDualMap<V> map) {
+		loadFactor = map.loadFactor;
+		threshold = map.threshold;
+		mask = map.mask;
+		shift = map.shift;
+		size = map.size;
+		keyTable = map.keyTable.clone();
+		valueTable = map.valueTable.clone();
+		values = map.values.clone();
+	}
+
+	/** @param index the index of an entry
+	 *  @return the slot in which the key of the entry belongs */
+	protected abstract int placeKey(int index);
+
+	/** @param length the new length of the key array, keeping the keys of all entries */
+	protected abstract void resizeKeys(int length);
+
+	/** sets the key of an entry to the key of another entry */
+	protected abstract void moveKey(int from, int to);
+
+	/** removes the key of an entry that is no longer used, so that it can be collected */
+	protected void clearKey(int index) {}
+
+	/** @return the slot in which the given object belongs */
+	protected int place(Object object) {
+		return (int) (object.hashCode() * 0x9E3779B97F4A7C15L >>> shift);
+	}
+
+	/** @param slot the slot in which the key belongs
+	 *  @return the index of the entry in the given slot, or -1 if the slot is empty */
+	protected int keyIndex(int slot) {
+		return keyTable[slot & mask] - 1;
+	}
+
+	/** @return the next slot in the probe sequence */
+	protected int next(int slot) {
+		return slot + 1 & mask;
+	}
+
+	/** @return the index of the entry with the given value, or -1 if there is none */
+	protected int indexOfValue(Object value) {
+		for(int slot = place(value); ; slot = slot + 1 & mask) {
+			int index = valueTable[slot] - 1;
+			if(index < 0 || values[index].equals(value))
+				return index;
+		}
+	}
+
+	/** Like {@link #indexOfValue(Object)} for a reader racing with a writer, see {@link ConcurrentDualIntMap}. Every field is read once and the slots are masked by the length of the table that was read, so a torn state can only give a wrong result or throw a RuntimeException, which the caller must detect by validating.
+	 *  @return the index of the entry with the given value in the given values, or -1 if there is none */
+	int racyIndexOfValue(Object value, V[] values) {
+		int[] table = valueTable;
+		int mask = table.length - 1;
+		int slot = (int) (value.hashCode() * 0x9E3779B97F4A7C15L >>> Long.numberOfLeadingZeros(mask)) & mask;
+		for(int probes = 0; probes <= mask; probes++, slot = slot + 1 & mask) {
+			int index = table[slot] - 1;
+			if(index < 0 || values[index].equals(value))
+				return index;
+		}
+		return -1;
+	}
+
+	/** @return the table of entry indices by key hash, for {@link #racyIndexOfValue(Object, Object[]) racy} readers */
+	int[] keyTable() {
+		return keyTable;
+	}
+
+	/** adds an entry without a key, the subclass sets the key and then calls {@link #link(int)}
+	 *  @param value the value of the entry, not null
+	 *  @return the index of the new entry */
+	protected int newEntry(V value) {
+		if(size == threshold) {
+			int tableSize = keyTable.length << 1;
+			while((int) (tableSize * loadFactor) <= size)
+				tableSize <<= 1;
+			setTableSize(tableSize);
+		}
+		values[size] = value;
+		return size++;
+	}
+
+	/** adds an entry to the tables after its key was set */
+	protected void link(int index) {
+		insert(keyTable, placeKey(index), index);
+		insert(valueTable, place(values[index]), index);
+	}
+
+	/** removes an entry and moves the last entry into its place */
+	protected void removeEntry(int index) {
+		unlink(keyTable, true, placeKey(index), index);
+		unlink(valueTable, false, place(values[index]), index);
+		int last = --size;
+		if(index != last) {
+			relink(keyTable, placeKey(last), last, index);
+			relink(valueTable, place(values[last]), last, index);
+			values[index] = values[last];
+			moveKey(last, index);
+		}
+		values[last] = null;
+		clearKey(last);
+	}
+
+	/** puts an entry index into the first empty slot from the given slot on */
+	private void insert(int[] table, int slot, int index) {
+		while(table[slot] != 0)
+			slot = slot + 1 & mask;
+		table[slot] = index + 1;
+	}
+
+	/** replaces the index of an entry in a table */
+	private void relink(int[] table, int slot, int from, int to) {
+		while(table[slot] != from + 1)
+			slot = slot + 1 & mask;
+		table[slot] = to + 1;
+	}
+
+	/** removes the index of an entry from a table, shifting back the following indices of the probe sequence so that no tombstones are needed */
+	private void unlink(int[] table, boolean keys, int slot, int index) {
+		while(table[slot] != index + 1)
+			slot = slot + 1 & mask;
+		for(int next = slot + 1 & mask, entry; (entry = table[next]) != 0; next = next + 1 & mask) {
+			int home = keys ? placeKey(entry - 1) : place(values[entry - 1]);
+			if((next - home & mask) > (slot - home & mask)) {
+				table[slot] = entry;
+				slot = next;
+			}
+		}
+		table[slot] = 0;
+	}
+
+	/** allocates new tables of the given size and puts the entries into them */
+	@SuppressWarnings("unchecked")
+	private void setTableSize(int tableSize) {
+		mask = tableSize - 1;
+		shift = Long.numberOfLeadingZeros(mask);
+		threshold = Math.max(1, Math.min((int) (tableSize * loadFactor), tableSize - 1));
+		keyTable = new int[tableSize];
+		valueTable = new int[tableSize];
+		V[] newValues = (V[]) new Object[threshold];
+		if(values != null)
+			System.arraycopy(values, 0, newValues, 0, size);
+		values = newValues;
+		resizeKeys(threshold);
+		for(int i = 0; i < size; i++)
+			link(i);
+	}
+
+	/** @return if there is an entry with the given value */
+	public boolean containsValue(V value) {
+		return indexOfValue(value) >= 0;
+	}
+
+	/** @param index the index of the entry, less than {@link #getSize()}
+	 *  @return the value of the entry at the given index */
+	public V getValueAt(int index) {
+		if(index >= size)
+			throw new IndexOutOfBoundsException("index can't be >= size: " + index + " >= " + size);
+		return values[index];
+	}
+
+	/** removes all entries */
+	public void clear() {
+		for(int i = 0; i < size; i++) {
+			values[i] = null;
+			clearKey(i);
+		}
+		Arrays.fill(keyTable, 0);
+		Arrays.fill(valueTable, 0);
+		size = 0;
+	}
+
+	/** @return the number of entries */
+	public int getSize() {
+		return size;
+	}
+
+	/** @return if there are no entries */
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+}
@@ -14,88 +14,39 @@
 
 package net.dermetfan.gdx.utils;
 
-import com.badlogic.gdx.utils.IntMap;
-import com.badlogic.gdx.utils.Pool;
-import com.badlogic.gdx.utils.PooledLinkedList;
-
 /** pools arrays by their size
  *  @author dermetfan
  *  @since 0.11.1 */
-public abstract class ArrayPool<T> {
-
-	private final IntMap<PooledLinkedList<T[]>> lists;
-	private final Pool<PooledLinkedList<T[]>> listPool;
-
-	/** the maximum amount of arrays of different lengths that will be pooled */
-	public final int max;
-
-	/** the maximum amount of arrays of the same length that will be pooled */
-	public final int maxEach;
+public abstract class ArrayPool<T> extends AbstractArrayPool<T[]> {
 
-	public ArrayPool(int max, final int maxEach) {
-		this.max = max;
-		this.maxEach = maxEach;
-
-		lists = new IntMap<>(max < 0 ? 10 : max, 0.9f);
-		listPool = new Pool<PooledLinkedList<T[]>>() {
-			@Override
-			protected PooledLinkedList<T[]> newObject() {
-				return new PooledLinkedList<>(maxEach);
-			}
-		};
+	public ArrayPool(int max, int maxEach) {
+		super(max, maxEach);
 	}
 
-	/** @return a new array of the given length */
+	@Override
 	protected abstract T[] newArray(int length);
 
 	/** @param length the desired length of the array */
+	@Override
 	public T[] obtain(int length) {
-		if(length < 0)
-			throw new IllegalArgumentException("negative array length: " + length);
-		PooledLinkedList<T[]> list = lists.get(length);
-		if(list == null)
-			return newArray(length);
-		list.iterReverse();
-		T[] array = list.previous();
-		list.remove();
-		if(list.previous() == null) {
-			lists.remove(length);
-			listPool.free(list);
-		}
-		return array;
+		return super.obtain(length);
 	}
 
 	/** @param array the array to put back into the pool */
+	@Override
 	public void free(T[] array) {
-		if(array == null)
-			throw new IllegalArgumentException("array cannot be null");
-		PooledLinkedList<T[]> list = lists.get(array.length);
-		if(list == null && lists.size < max) {
-			list = listPool.obtain();
-			lists.put(array.length, list);
-		}
-		if(list != null && size(list) < maxEach)
-			list.add(array);
-	}
-
-	public void clear() {
-		for(PooledLinkedList<T[]> list : lists.values())
-			list.clear();
-		lists.clear();
+		super.free(array);
 	}
 
-	/** @return the number of arrays of the given length in the pool */
-	public int getFree(int length) {
-		PooledLinkedList<T[]> list = lists.get(length);
-		return list == null ? 0 : size(list);
+	@Override
+	protected int length(T[] array) {
+		return array.length;
 	}
 
-	private int size(PooledLinkedList list) {
-		int size = 0;
-		list.iter();
-		while(list.next() != null)
-			size++;
-		return size;
+	/** @return 4, the size of a compressed reference */
+	@Override
+	protected int elementBytes() {
+		return 4;
 	}
 
 }
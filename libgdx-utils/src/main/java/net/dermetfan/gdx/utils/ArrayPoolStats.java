@@ -0,0 +1,75 @@
+package net.dermetfan.gdx.utils;
+
+import com.badlogic.gdx.utils.IntIntMap;
+import com.badlogic.gdx.utils.IntMap;
+
+/** a snapshot of the counters of an {@link AbstractArrayPool}, see {@link AbstractArrayPool#getStats(ArrayPoolStats)}
+ *  @since 0.13.8 */
+public class ArrayPoolStats {
+
+	/** the number of arrays requested */
+	public long obtains;
+
+	/** the number of requests served by a pooled array */
+	public long hits;
+
+	/** the number of requests that had to create a new array */
+	public long misses;
+
+	/** the number of arrays freed */
+	public long frees;
+
+	/** the number of freed arrays that were not pooled because the pool was full */
+	public long drops;
+
+	/** the number of pooled arrays that were dropped by the byte budget or for being idle */
+	public long evictions;
+
+	/** the number of arrays in the pool */
+	public int retained;
+
+	/** the number of bytes of the arrays in the pool */
+	public long retainedBytes;
+
+	/** the highest number of arrays in the pool since the last reset */
+	public int highWaterRetained;
+
+	/** the highest number of bytes of the arrays in the pool since the last reset */
+	public long highWaterRetainedBytes;
+
+	/** the number of arrays in the pool by bucket, which is the length for pools that keep each length separately */
+	public final IntIntMap retainedArrays = new IntIntMap();
+
+	/** the number of bytes of the arrays in the pool by bucket, like {@link #retainedArrays} */
+	public final IntMap<Long> retainedArrayBytes = new IntMap<>();
+
+	/** @return the ratio of {@link #hits} to {@link #obtains}, 0 if there were no obtains */
+	public float getHitRate() {
+		return obtains == 0 ? 0 : (float) hits / obtains;
+	}
+
+	/** sets the counters and high-water marks to the ones of the given ArrayPoolStats */
+	void set(ArrayPoolStats stats) {
+		obtains = stats.obtains;
+		hits = stats.hits;
+		misses = stats.misses;
+		frees = stats.frees;
+		drops = stats.drops;
+		evictions = stats.evictions;
+		highWaterRetained = stats.highWaterRetained;
+		highWaterRetainedBytes = stats.highWaterRetainedBytes;
+	}
+
+	/** sets the counters and high-water marks to zero */
+	void reset() {
+		obtains = hits = misses = frees = drops = evictions = 0;
+		highWaterRetained = 0;
+		highWaterRetainedBytes = 0;
+	}
+
+	@Override
+	public String toString() {
+		return "obtains: " + obtains + ", hits: " + hits + ", misses: " + misses + ", frees: " + frees + ", drops: " + drops + ", evictions: " + evictions + ", retained: " + retained + " (" + retainedBytes + " bytes), high-water: " + highWaterRetained + " (" + highWaterRetainedBytes + " bytes)";
+	}
+
+}
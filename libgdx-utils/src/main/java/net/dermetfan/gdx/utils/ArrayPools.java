@@ -14,6 +14,7 @@
 
 package net.dermetfan.gdx.utils;
 
+import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.ObjectMap;
 
 /** stores a map of {@link ArrayPool ArrayPools} (usually {@link ReflectionArrayPool}) for convenient static access
@@ -24,11 +25,14 @@ public class ArrayPools {
 	/** holds pools by type */
 	private static final ObjectMap<Class, ArrayPool> typePools = new ObjectMap<>();
 
-	/** a static pool for float arrays */
-	private static FloatArrayPool floatPool;
+	/** holds the pools of primitive arrays by component type */
+	private static final ObjectMap<Class, AbstractArrayPool> primitivePools = new ObjectMap<>();
 
-	/** a static pool for int arrays */
-	private static IntArrayPool intPool;
+	/** the {@link AbstractArrayPool#setMaxBytes(long) byte budget} of the short, byte, long and double pools created by this class (4 MiB by default), so that a few large arrays are not pooled forever */
+	public static long maxBytes = 4 << 20;
+
+	/** if the pools should {@link AbstractArrayPool#setTracking(boolean) track} the arrays on loan */
+	private static boolean tracking;
 
 	/** note the max and maxEach sizes are ignored if this is not the first time this pool has been requested
 	 *  @return a new {@link ReflectionArrayPool} or existing pool for the specified type, stored in a Class to {@link ArrayPool} map */
@@ -37,26 +41,80 @@ public class ArrayPools {
 		ArrayPool<T> pool = typePools.get(type);
 		if(pool == null) {
 			pool = new ReflectionArrayPool<>(type, max, maxEach);
+			pool.setTracking(tracking);
 			typePools.put(type, pool);
 		}
 		return pool;
 	}
 
+	/** @param type the primitive component type
+	 *  @return a new or the existing pool for the given primitive type */
+	@SuppressWarnings("unchecked")
+	private static <P extends AbstractArrayPool<?>> P getPrimitives(Class<?> type, int max, int maxEach) {
+		P pool = (P) primitivePools.get(type);
+		if(pool == null) {
+			pool = (P) newPrimitivePool(type, max, maxEach);
+			pool.setTracking(tracking);
+			primitivePools.put(type, pool);
+		}
+		return pool;
+	}
+
+	/** @return a {@link FloatArrayPool} or {@link IntArrayPool}, or a {@link SizeClassArrayPool} with the {@link #maxBytes byte budget} for the other primitive types */
+	private static AbstractArrayPool<?> newPrimitivePool(Class<?> type, int max, int maxEach) {
+		if(type == float.class)
+			return new FloatArrayPool(max, maxEach);
+		if(type == int.class)
+			return new IntArrayPool(max, maxEach);
+		SizeClassArrayPool<?> pool = type == short.class ? SizeClassArrayPool.shorts(maxEach) : type == byte.class ? SizeClassArrayPool.bytes(maxEach) : type == long.class ? SizeClassArrayPool.longs(maxEach) : SizeClassArrayPool.doubles(maxEach);
+		pool.setMaxBytes(maxBytes);
+		return pool;
+	}
+
+	/** @param pool the pool to set for the given primitive type, null to create a new one on the next request */
+	private static void setPrimitives(Class<?> type, AbstractArrayPool<?> pool) {
+		if(pool == null)
+			primitivePools.remove(type);
+		else
+			primitivePools.put(type, pool);
+	}
+
 	/** @see #get(Class, int, int) */
 	public static FloatArrayPool getFloats(int max, int maxEach) {
-		if(floatPool == null)
-			floatPool = new FloatArrayPool(max, maxEach);
-		return floatPool;
+		return getPrimitives(float.class, max, maxEach);
 	}
 
 	/** @see #get(Class, int, int) */
 	public static IntArrayPool getInts(int max, int maxEach) {
-		if(intPool == null)
-			intPool = new IntArrayPool(max, maxEach);
-		return intPool;
+		return getPrimitives(int.class, max, maxEach);
+	}
+
+	/** @return a pool of short arrays in power-of-two size classes with the {@link #maxBytes byte budget}
+	 *  @see #get(Class, int, int) */
+	public static SizeClassArrayPool<short[]> getShorts(int maxEach) {
+		return getPrimitives(short.class, -1, maxEach);
+	}
+
+	/** @return a pool of byte arrays in power-of-two size classes with the {@link #maxBytes byte budget}
+	 *  @see #get(Class, int, int) */
+	public static SizeClassArrayPool<byte[]> getBytes(int maxEach) {
+		return getPrimitives(byte.class, -1, maxEach);
 	}
 
-	/** calls {@link #get(Class, int, int)} with a max size of -1 (no max size) and a maxEach size of 100
+	/** @return a pool of long arrays in power-of-two size classes with the {@link #maxBytes byte budget}
+	 *  @see #get(Class, int, int) */
+	public static SizeClassArrayPool<long[]> getLongs(int maxEach) {
+		return getPrimitives(long.class, -1, maxEach);
+	}
+
+	/** @return a pool of double arrays in power-of-two size classes with the {@link #maxBytes byte budget}
+	 *  @see #get(Class, int, int) */
+	public static SizeClassArrayPool<double[]> getDoubles(int maxEach) {
+		return getPrimitives(double.class, -1, maxEach);
+	}
+
+	/** calls {@link #get(Class, int, int)} with a max size of -1 (no max size) and a maxEach size of 100.
+	 *  Note that the default pools keep up to 100 arrays of every length that is freed until they are {@link AbstractArrayPool#clear() cleared}, so consider a {@link AbstractArrayPool#setMaxBytes(long) byte budget} when freeing large arrays of many different lengths.
 	 *  @see #get(Class, int, int) */
 	public static <T> ArrayPool<T> get(Class<T> type) {
 		return get(type, -1, 100);
@@ -72,6 +130,26 @@ public class ArrayPools {
 		return getInts(-1, 100);
 	}
 
+	/** @see #getShorts(int) */
+	public static SizeClassArrayPool<short[]> getShorts() {
+		return getShorts(100);
+	}
+
+	/** @see #getBytes(int) */
+	public static SizeClassArrayPool<byte[]> getBytes() {
+		return getBytes(100);
+	}
+
+	/** @see #getLongs(int) */
+	public static SizeClassArrayPool<long[]> getLongs() {
+		return getLongs(100);
+	}
+
+	/** @see #getDoubles(int) */
+	public static SizeClassArrayPool<double[]> getDoubles() {
+		return getDoubles(100);
+	}
+
 	/** @param type the type for which to set the pool in a Class to {@link ArrayPool} map
 	 *  @param pool the pool to set for the given type */
 	public static <T> void set(Class<T> type, ArrayPool<T> pool) {
@@ -80,32 +158,76 @@ public class ArrayPools {
 
 	/** @see #set(Class, ArrayPool) */
 	public static void set(FloatArrayPool pool) {
-		floatPool = pool;
+		setPrimitives(float.class, pool);
 	}
 
 	/** @see #set(Class, ArrayPool) */
 	public static void set(IntArrayPool pool) {
-		intPool = pool;
+		setPrimitives(int.class, pool);
 	}
 
-	/** @see ArrayPool#obtain(int) */
+	/** @see #set(Class, ArrayPool) */
+	public static void setShorts(SizeClassArrayPool<short[]> pool) {
+		setPrimitives(short.class, pool);
+	}
+
+	/** @see #set(Class, ArrayPool) */
+	public static void setBytes(SizeClassArrayPool<byte[]> pool) {
+		setPrimitives(byte.class, pool);
+	}
+
+	/** @see #set(Class, ArrayPool) */
+	public static void setLongs(SizeClassArrayPool<long[]> pool) {
+		setPrimitives(long.class, pool);
+	}
+
+	/** @see #set(Class, ArrayPool) */
+	public static void setDoubles(SizeClassArrayPool<double[]> pool) {
+		setPrimitives(double.class, pool);
+	}
+
+	/** @see AbstractArrayPool#obtain(int) */
 	public static <T> T[] obtain(Class<T> type, int length) {
 		if(type.isPrimitive())
-			throw new IllegalArgumentException("Cannot return primitive array without boxing. Use obtain" + (type == float.class ? "Float" : type == int.class ? "Int" : "[Type]") + "s(int) instead.");
+			throw new IllegalArgumentException("Cannot return primitive array without boxing. Use obtain" + (type == float.class ? "Float" : type == int.class ? "Int" : type == short.class ? "Short" : type == byte.class ? "Byte" : type == long.class ? "Long" : type == double.class ? "Double" : "[Type]") + "s(int) instead.");
 		return get(type).obtain(length);
 	}
 
-	/** @see FloatArrayPool#obtain(int) */
+	/** @see AbstractArrayPool#obtain(int) */
 	public static float[] obtainFloats(int length) {
 		return getFloats().obtain(length);
 	}
 
-	/** @see IntArrayPool#obtain(int) */
+	/** @see AbstractArrayPool#obtain(int) */
 	public static int[] obtainInts(int length) {
 		return getInts().obtain(length);
 	}
 
-	/** @see ArrayPool#free(Object[]) */
+	/** @return an array that is at least as long as the given length
+	 *  @see SizeClassArrayPool#obtain(int) */
+	public static short[] obtainShorts(int minLength) {
+		return getShorts().obtain(minLength);
+	}
+
+	/** @return an array that is at least as long as the given length
+	 *  @see SizeClassArrayPool#obtain(int) */
+	public static byte[] obtainBytes(int minLength) {
+		return getBytes().obtain(minLength);
+	}
+
+	/** @return an array that is at least as long as the given length
+	 *  @see SizeClassArrayPool#obtain(int) */
+	public static long[] obtainLongs(int minLength) {
+		return getLongs().obtain(minLength);
+	}
+
+	/** @return an array that is at least as long as the given length
+	 *  @see SizeClassArrayPool#obtain(int) */
+	public static double[] obtainDoubles(int minLength) {
+		return getDoubles().obtain(minLength);
+	}
+
+	/** @see AbstractArrayPool#free(Object) */
 	public static <T> void free(T[] array) {
 		if(array == null)
 			throw new IllegalArgumentException("array cannot be null");
@@ -114,16 +236,61 @@ public class ArrayPools {
 		pool.free(array);
 	}
 
-	/** @see FloatArrayPool#free(float[]) */
+	/** @see AbstractArrayPool#free(Object) */
 	public static void free(float[] array) {
 		getFloats().free(array);
 	}
 
-	/** @see IntArrayPool#free(int[]) */
+	/** @see AbstractArrayPool#free(Object) */
 	public static void free(int[] array) {
 		getInts().free(array);
 	}
 
+	/** @see AbstractArrayPool#free(Object) */
+	public static void free(short[] array) {
+		getShorts().free(array);
+	}
+
+	/** @see AbstractArrayPool#free(Object) */
+	public static void free(byte[] array) {
+		getBytes().free(array);
+	}
+
+	/** @see AbstractArrayPool#free(Object) */
+	public static void free(long[] array) {
+		getLongs().free(array);
+	}
+
+	/** @see AbstractArrayPool#free(Object) */
+	public static void free(double[] array) {
+		getDoubles().free(array);
+	}
+
+	/** @param tracking if the current and future pools should {@link AbstractArrayPool#setTracking(boolean) track} the arrays on loan, disabled by default */
+	public static void setTracking(boolean tracking) {
+		ArrayPools.tracking = tracking;
+		for(ArrayPool pool : typePools.values())
+			pool.setTracking(tracking);
+		for(AbstractArrayPool pool : primitivePools.values())
+			pool.setTracking(tracking);
+	}
+
+	/** @return if new pools {@link AbstractArrayPool#isTracking() track} the arrays on loan */
+	public static boolean isTracking() {
+		return tracking;
+	}
+
+	/** @param callSites the Array to add the call sites of the arrays on loan from all pools to
+	 *  @return the given Array
+	 *  @see AbstractArrayPool#getLoans(Array) */
+	public static Array<Throwable> getLoans(Array<Throwable> callSites) {
+		for(ArrayPool pool : typePools.values())
+			pool.getLoans(callSites);
+		for(AbstractArrayPool pool : primitivePools.values())
+			pool.getLoans(callSites);
+		return callSites;
+	}
+
 	private ArrayPools() {}
 
 }
@@ -17,6 +17,10 @@ package net.dermetfan.gdx.utils;
 import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.FloatArray;
 import com.badlogic.gdx.utils.IntArray;
+import net.dermetfan.utils.IndexView.FloatCursor;
+import net.dermetfan.utils.IndexView.IntCursor;
+import net.dermetfan.utils.SelectView;
+import net.dermetfan.utils.SkipSelectView;
 
 /** array utility methods
  *  @author dermetfan
@@ -39,8 +43,8 @@ public class ArrayUtils extends net.dermetfan.utils.ArrayUtils {
 			dest = new Array<>(outputLength);
 		dest.clear();
 		dest.ensureCapacity(outputLength);
-		if(start + length > items.size)
-			throw new ArrayIndexOutOfBoundsException(start + length - 1);
+		if(offset + length > items.size)
+			throw new ArrayIndexOutOfBoundsException(offset + length - 1);
 		dest.size = outputLength;
 		select(items.items, offset, length, start, everyXth, dest.items);
 		return dest;
@@ -110,7 +114,7 @@ public class ArrayUtils extends net.dermetfan.utils.ArrayUtils {
 	/** Skips, selects and goes to the next element repeatedly. Stops when {@code elements} has no more values. When {@code skips} has no more values, {@code repeatSkips} will be used repeatedly.<br>
 	 *  If the length of the selection is the length of the given {@code elements}, {@code elements} is returned.
 	 *  @param elements the elements from which to select not skipped ones
-	 *  @param skips the number of indices to skip after each selection
+	 *  @param skips the number of elements to skip before each selection, so the first one is the number of elements before the first selected one
 	 *  @param repeatSkips The skips to use repeatedly after {@code skips} has no more values. If this is null, no more elements will be selected.
 	 *  @param output the array to fill
 	 *  @return the {@code elements} that were not skipped */
@@ -119,14 +123,24 @@ public class ArrayUtils extends net.dermetfan.utils.ArrayUtils {
 		boolean normal = skips != null && skips.size > 0, repeat = repeatSkips != null && repeatSkips.size > 0;
 		if(!normal && !repeat)
 			return elements;
-
-		int length, span = 0, rsi = 0;
-		for(length = 0; length < elements.size; length++) {
-			int skip = normal && length < skips.size ? skips.get(length) : repeat ? repeatSkips.get(rsi >= repeatSkips.size ? rsi = 0 : rsi++) : Integer.MAX_VALUE - span - 1;
-			if(span + skip + 1 <= elements.size)
-				span += skip + 1;
-			else
+		int skipsLength = normal ? skips.size : 0;
+
+		int length = 0, span = 0;
+		for(int rsi = 0; ; length++) {
+			int skip;
+			if(length < skipsLength)
+				skip = skips.get(length);
+			else if(repeat) {
+				skip = repeatSkips.get(rsi);
+				if(++rsi == repeatSkips.size)
+					rsi = 0;
+			} else
+				break;
+			if(skip < 0)
+				throw new IllegalArgumentException("skips must not be negative: " + skip);
+			if(skip >= elements.size - span)
 				break;
+			span += skip + 1;
 		}
 
 		if(length == elements.size)
@@ -137,17 +151,15 @@ public class ArrayUtils extends net.dermetfan.utils.ArrayUtils {
 		output.clear();
 		output.ensureCapacity(length - output.size);
 
-		rsi = 0;
-		for(int si = 0, ei = 0; si < length;) {
-			output.add(elements.get(ei++));
-			si++;
-			if(si >= skips.size)
-				if(repeat)
-					ei += repeatSkips.get(rsi >= repeatSkips.size ? rsi = 0 : rsi++);
-				else
-					break;
-			else
-				ei += skips.get(si);
+		for(int si = 0, ei = -1, rsi = 0; si < length; si++) {
+			if(si < skipsLength)
+				ei += skips.get(si) + 1;
+			else {
+				ei += repeatSkips.get(rsi) + 1;
+				if(++rsi == repeatSkips.size)
+					rsi = 0;
+			}
+			output.add(elements.get(ei));
 		}
 
 		return output;
@@ -159,18 +171,12 @@ public class ArrayUtils extends net.dermetfan.utils.ArrayUtils {
 	}
 
 	/** Like {@link #skipselect(Array, IntArray, IntArray)} with a skips array that contains only {@code firstSkip} and an infinite {@code repeatSkips} array which elements are all {@code skips}.
-	 * 	If {@code skips} is smaller than 1, {@code elements} will be returned.
 	 *  @see #skipselect(Array, IntArray, IntArray) */
 	@SuppressWarnings("unchecked")
 	public static <T> Array<T> skipselect(Array<T> elements, int firstSkip, int skips, Array<T> output) {
-		int length, span = firstSkip;
-		for(length = 0; length < elements.size; length++)
-			if(span + skips + 1 <= elements.size)
-				span += skips + 1;
-			else {
-				length++;
-				break;
-			}
+		if(skips < 0)
+			throw new IllegalArgumentException("skips must not be negative: " + skips);
+		int length = firstSkip < elements.size ? (elements.size - 1 - firstSkip) / (skips + 1) + 1 : 0;
 
 		if(output == null)
 			output = new Array<>(length);
@@ -188,6 +194,45 @@ public class ArrayUtils extends net.dermetfan.utils.ArrayUtils {
 		return skipselect(elements, firstSkip, skips, null);
 	}
 
+	/** @return a view of the items {@link #select(Array, int, int, int, int) select} would copy, valid until the Array resizes its backing array
+	 *  @since 0.13.8 */
+	public static <T> SelectView<T> selectView(Array<T> items, int offset, int length, int start, int everyXth) {
+		if(offset + length > items.size)
+			throw new ArrayIndexOutOfBoundsException(offset + length - 1);
+		return new SelectView<>(items.items, offset, length, start, everyXth);
+	}
+
+	/** @see #selectView(Array, int, int, int, int)
+	 *  @since 0.13.8 */
+	public static <T> SelectView<T> selectView(Array<T> items, int start, int everyXth) {
+		return selectView(items, 0, items.size, start, everyXth);
+	}
+
+	/** @return a cursor over the values {@link #select(float[], int, int, int, int) select} would copy, valid until the FloatArray resizes its backing array
+	 *  @since 0.13.8 */
+	public static FloatCursor selectCursor(FloatArray items, int start, int everyXth) {
+		return new FloatCursor(items.items, new SelectView<>().set(0, items.size, start, everyXth));
+	}
+
+	/** @return a cursor over the values {@link #select(int[], int, int, int, int) select} would copy, valid until the IntArray resizes its backing array
+	 *  @since 0.13.8 */
+	public static IntCursor selectCursor(IntArray items, int start, int everyXth) {
+		return new IntCursor(items.items, new SelectView<>().set(0, items.size, start, everyXth));
+	}
+
+	/** Like {@link #skipselect(Array, IntArray, IntArray)} without copying.
+	 *  @return a view valid until the Array resizes its backing array or the skips change
+	 *  @since 0.13.8 */
+	public static <T> SkipSelectView<T> skipselectView(Array<T> elements, IntArray skips, IntArray repeatSkips) {
+		return new SkipSelectView<T>().set(elements.items, 0, elements.size, skips == null ? null : skips.items, skips == null ? 0 : skips.size, repeatSkips == null ? null : repeatSkips.items, repeatSkips == null ? 0 : repeatSkips.size);
+	}
+
+	/** @return a view of the elements {@link #skipselect(Array, int, int)} would copy, valid until the Array resizes its backing array
+	 *  @since 0.13.8 */
+	public static <T> SelectView<T> skipselectView(Array<T> elements, int firstSkip, int skips) {
+		return new SelectView<>(elements.items, 0, elements.size, firstSkip + 1, skips + 1);
+	}
+
 	/** @see #equalsAny(Object, Object[]) */
 	public static <T> boolean equalsAny(T obj, Array<T> array) {
 		return equalsAny(obj, array.items, 0, array.size);
@@ -213,8 +258,8 @@ public class ArrayUtils extends net.dermetfan.utils.ArrayUtils {
 			dest = new IntArray(outputLength);
 		dest.clear();
 		dest.ensureCapacity(outputLength);
-		if(start + length > items.size)
-			throw new ArrayIndexOutOfBoundsException(start + length - 1);
+		if(offset + length > items.size)
+			throw new ArrayIndexOutOfBoundsException(offset + length - 1);
 		dest.size = outputLength;
 		select(items.items, offset, length, start, everyXth, dest.items);
 		return dest;
@@ -284,7 +329,7 @@ public class ArrayUtils extends net.dermetfan.utils.ArrayUtils {
 	/** Skips, selects and goes to the next element repeatedly. Stops when {@code elements} has no more values. When {@code skips} has no more values, {@code repeatSkips} will be used repeatedly.<br>
 	 *  If the length of the selection is the length of the given {@code elements}, {@code elements} is returned.
 	 *  @param elements the elements from which to select not skipped ones
-	 *  @param skips the number of indices to skip after each selection
+	 *  @param skips the number of elements to skip before each selection, so the first one is the number of elements before the first selected one
 	 *  @param repeatSkips The skips to use repeatedly after {@code skips} has no more values. If this is null, no more elements will be selected.
 	 *  @param output the array to fill
 	 *  @return the {@code elements} that were not skipped */
@@ -292,14 +337,24 @@ public class ArrayUtils extends net.dermetfan.utils.ArrayUtils {
 		boolean normal = skips != null && skips.size > 0, repeat = repeatSkips != null && repeatSkips.size > 0;
 		if(!normal && !repeat)
 			return elements;
-
-		int length, span = 0, rsi = 0;
-		for(length = 0; length < elements.size; length++) {
-			int skip = normal && length < skips.size ? skips.get(length) : repeat ? repeatSkips.get(rsi >= repeatSkips.size ? rsi = 0 : rsi++) : Integer.MAX_VALUE - span - 1;
-			if(span + skip + 1 <= elements.size)
-				span += skip + 1;
-			else
+		int skipsLength = normal ? skips.size : 0;
+
+		int length = 0, span = 0;
+		for(int rsi = 0; ; length++) {
+			int skip;
+			if(length < skipsLength)
+				skip = skips.get(length);
+			else if(repeat) {
+				skip = repeatSkips.get(rsi);
+				if(++rsi == repeatSkips.size)
+					rsi = 0;
+			} else
 				break;
+			if(skip < 0)
+				throw new IllegalArgumentException("skips must not be negative: " + skip);
+			if(skip >= elements.size - span)
+				break;
+			span += skip + 1;
 		}
 
 		if(length == elements.size)
@@ -310,17 +365,15 @@ public class ArrayUtils extends net.dermetfan.utils.ArrayUtils {
 		output.clear();
 		output.ensureCapacity(length - output.size);
 
-		rsi = 0;
-		for(int si = 0, ei = 0; si < length;) {
-			output.add(elements.get(ei++));
-			si++;
-			if(si >= skips.size)
-				if(repeat)
-					ei += repeatSkips.get(rsi >= repeatSkips.size ? rsi = 0 : rsi++);
-				else
-					break;
-			else
-				ei += skips.get(si);
+		for(int si = 0, ei = -1, rsi = 0; si < length; si++) {
+			if(si < skipsLength)
+				ei += skips.get(si) + 1;
+			else {
+				ei += repeatSkips.get(rsi) + 1;
+				if(++rsi == repeatSkips.size)
+					rsi = 0;
+			}
+			output.add(elements.get(ei));
 		}
 
 		return output;
@@ -332,17 +385,11 @@ public class ArrayUtils extends net.dermetfan.utils.ArrayUtils {
 	}
 
 	/** Like {@link #skipselect(Array, IntArray, IntArray)} with a skips array that contains only {@code firstSkip} and an infinite {@code repeatSkips} array which elements are all {@code skips}.
-	 * 	If {@code skips} is smaller than 1, {@code elements} will be returned.
 	 *  @see #skipselect(Array, IntArray, IntArray) */
 	public static IntArray skipselect(IntArray elements, int firstSkip, int skips, IntArray output) {
-		int length, span = firstSkip;
-		for(length = 0; length < elements.size; length++)
-			if(span + skips + 1 <= elements.size)
-				span += skips + 1;
-			else {
-				length++;
-				break;
-			}
+		if(skips < 0)
+			throw new IllegalArgumentException("skips must not be negative: " + skips);
+		int length = firstSkip < elements.size ? (elements.size - 1 - firstSkip) / (skips + 1) + 1 : 0;
 
 		if(output == null)
 			output = new IntArray(length);
@@ -378,8 +425,8 @@ public class ArrayUtils extends net.dermetfan.utils.ArrayUtils {
 			dest = new FloatArray(outputLength);
 		dest.clear();
 		dest.ensureCapacity(outputLength);
-		if(start + length > items.size)
-			throw new ArrayIndexOutOfBoundsException(start + length - 1);
+		if(offset + length > items.size)
+			throw new ArrayIndexOutOfBoundsException(offset + length - 1);
 		dest.size = outputLength;
 		select(items.items, offset, length, start, everyXth, dest.items);
 		return dest;
@@ -449,7 +496,7 @@ public class ArrayUtils extends net.dermetfan.utils.ArrayUtils {
 	/** Skips, selects and goes to the next element repeatedly. Stops when {@code elements} has no more values. When {@code skips} has no more values, {@code repeatSkips} will be used repeatedly.<br>
 	 *  If the length of the selection is the length of the given {@code elements}, {@code elements} is returned.
 	 *  @param elements the elements from which to select not skipped ones
-	 *  @param skips the number of indices to skip after each selection
+	 *  @param skips the number of elements to skip before each selection, so the first one is the number of elements before the first selected one
 	 *  @param repeatSkips The skips to use repeatedly after {@code skips} has no more values. If this is null, no more elements will be selected.
 	 *  @param output the array to fill
 	 *  @return the {@code elements} that were not skipped */
@@ -457,14 +504,24 @@ public class ArrayUtils extends net.dermetfan.utils.ArrayUtils {
 		boolean normal = skips != null && skips.size > 0, repeat = repeatSkips != null && repeatSkips.size > 0;
 		if(!normal && !repeat)
 			return elements;
-
-		int length, span = 0, rsi = 0;
-		for(length = 0; length < elements.size; length++) {
-			int skip = normal && length < skips.size ? skips.get(length) : repeat ? repeatSkips.get(rsi >= repeatSkips.size ? rsi = 0 : rsi++) : Integer.MAX_VALUE - span - 1;
-			if(span + skip + 1 <= elements.size)
-				span += skip + 1;
-			else
+		int skipsLength = normal ? skips.size : 0;
+
+		int length = 0, span = 0;
+		for(int rsi = 0; ; length++) {
+			int skip;
+			if(length < skipsLength)
+				skip = skips.get(length);
+			else if(repeat) {
+				skip = repeatSkips.get(rsi);
+				if(++rsi == repeatSkips.size)
+					rsi = 0;
+			} else
+				break;
+			if(skip < 0)
+				throw new IllegalArgumentException("skips must not be negative: " + skip);
+			if(skip >= elements.size - span)
 				break;
+			span += skip + 1;
 		}
 
 		if(length == elements.size)
@@ -475,17 +532,15 @@ public class ArrayUtils extends net.dermetfan.utils.ArrayUtils {
 		output.clear();
 		output.ensureCapacity(length - output.size);
 
-		rsi = 0;
-		for(int si = 0, ei = 0; si < length;) {
-			output.add(elements.get(ei++));
-			si++;
-			if(si >= skips.size)
-				if(repeat)
-					ei += repeatSkips.get(rsi >= repeatSkips.size ? rsi = 0 : rsi++);
-				else
-					break;
-			else
-				ei += skips.get(si);
+		for(int si = 0, ei = -1, rsi = 0; si < length; si++) {
+			if(si < skipsLength)
+				ei += skips.get(si) + 1;
+			else {
+				ei += repeatSkips.get(rsi) + 1;
+				if(++rsi == repeatSkips.size)
+					rsi = 0;
+			}
+			output.add(elements.get(ei));
 		}
 
 		return output;
@@ -497,17 +552,11 @@ public class ArrayUtils extends net.dermetfan.utils.ArrayUtils {
 	}
 
 	/** Like {@link #skipselect(Array, IntArray, IntArray)} with a skips array that contains only {@code firstSkip} and an infinite {@code repeatSkips} array which elements are all {@code skips}.
-	 * 	If {@code skips} is smaller than 1, {@code elements} will be returned.
 	 *  @see #skipselect(Array, IntArray, IntArray) */
 	public static FloatArray skipselect(FloatArray elements, int firstSkip, int skips, FloatArray output) {
-		int length, span = firstSkip;
-		for(length = 0; length < elements.size; length++)
-			if(span + skips + 1 <= elements.size)
-				span += skips + 1;
-			else {
-				length++;
-				break;
-			}
+		if(skips < 0)
+			throw new IllegalArgumentException("skips must not be negative: " + skips);
+		int length = firstSkip < elements.size ? (elements.size - 1 - firstSkip) / (skips + 1) + 1 : 0;
 
 		if(output == null)
 			output = new FloatArray(length);
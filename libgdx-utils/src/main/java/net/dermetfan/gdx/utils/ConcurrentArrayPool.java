@@ -0,0 +1,129 @@
+package net.dermetfan.gdx.utils;
+
+/** A thread-safe array pool. Each thread has a small pool of its own (a magazine) that is used without locking.
+ *  Arrays that do not fit into the magazine overflow into a shared pool that is split into stripes with separate locks, so that threads rarely wait for each other.
+ *  {@link #clear()} only clears the magazine of the calling thread.
+ *  <strong>Does NOT work on HTML5!</strong>
+ *  @param <A> the array type
+ *  @since 0.13.8 */
+public abstract class ConcurrentArrayPool<A> {
+
+	/** the stripes of the shared pool, each used as its own lock */
+	private final AbstractArrayPool<A>[] stripes;
+
+	/** the magazines of the threads */
+	private final ThreadLocal<AbstractArrayPool<A>> magazines;
+
+	/** @param max the maximum amount of arrays of different lengths that will be pooled per stripe and magazine, negative for no limit
+	 *  @param maxEach the maximum amount of arrays of the same length that will be pooled per stripe
+	 *  @param magazineSize the maximum amount of arrays of the same length that will be pooled per thread */
+	@SuppressWarnings("unchecked")
+	public ConcurrentArrayPool(final int max, int maxEach, final int magazineSize) {
+		int count = Integer.highestOneBit(Math.max(Runtime.getRuntime().availableProcessors() * 2 - 1, 1)); // the number of processors rounded up to a power of two
+		stripes = new AbstractArrayPool[count];
+		for(int i = 0; i < count; i++)
+			stripes[i] = newPool(max, (maxEach + count - 1) / count);
+		magazines = new ThreadLocal<AbstractArrayPool<A>>() {
+			@Override
+			protected AbstractArrayPool<A> initialValue() {
+				return newPool(max, magazineSize);
+			}
+		};
+	}
+
+	/** @return a new pool used as a stripe or magazine */
+	protected abstract AbstractArrayPool<A> newPool(int max, int maxEach);
+
+	/** @param length the desired length of the array
+	 *  @see AbstractArrayPool#obtain(int) */
+	public A obtain(int length) {
+		AbstractArrayPool<A> magazine = magazines.get();
+		A array = magazine.poll(length);
+		if(array != null)
+			return array;
+		int home = stripe();
+		for(int i = 0; i < stripes.length; i++) {
+			AbstractArrayPool<A> stripe = stripes[home + i & stripes.length - 1];
+			synchronized(stripe) {
+				array = stripe.poll(length);
+			}
+			if(array != null)
+				return array;
+		}
+		return magazine.newArray(magazine.newLength(length));
+	}
+
+	/** @param array the array to put back into the pool
+	 *  @see AbstractArrayPool#free(Object) */
+	public void free(A array) {
+		offer(array);
+	}
+
+	/** @param array the array to put back into the pool
+	 *  @return if the array was pooled, false if the pool is full
+	 *  @see AbstractArrayPool#offer(Object) */
+	public boolean offer(A array) {
+		if(magazines.get().offer(array))
+			return true;
+		AbstractArrayPool<A> stripe = stripes[stripe()];
+		synchronized(stripe) {
+			return stripe.offer(array);
+		}
+	}
+
+	/** clears the shared pool and the magazine of the calling thread */
+	public void clear() {
+		magazines.get().clear();
+		for(AbstractArrayPool<A> stripe : stripes)
+			synchronized(stripe) {
+				stripe.clear();
+			}
+	}
+
+	/** @return the number of arrays in the shared pool and the magazine of the calling thread that can be obtained for the given length */
+	public int getFree(int length) {
+		int free = magazines.get().getFree(length);
+		for(AbstractArrayPool<A> stripe : stripes)
+			synchronized(stripe) {
+				free += stripe.getFree(length);
+			}
+		return free;
+	}
+
+	/** @return the index of the stripe of the calling thread */
+	private int stripe() {
+		return (int) Thread.currentThread().getId() & stripes.length - 1;
+	}
+
+	/** @return a ConcurrentArrayPool of float arrays */
+	public static ConcurrentArrayPool<float[]> floats(int max, int maxEach, int magazineSize) {
+		return new ConcurrentArrayPool<float[]>(max, maxEach, magazineSize) {
+			@Override
+			protected AbstractArrayPool<float[]> newPool(int max, int maxEach) {
+				return new FloatArrayPool(max, maxEach);
+			}
+		};
+	}
+
+	/** @return a ConcurrentArrayPool of int arrays */
+	public static ConcurrentArrayPool<int[]> ints(int max, int maxEach, int magazineSize) {
+		return new ConcurrentArrayPool<int[]>(max, maxEach, magazineSize) {
+			@Override
+			protected AbstractArrayPool<int[]> newPool(int max, int maxEach) {
+				return new IntArrayPool(max, maxEach);
+			}
+		};
+	}
+
+	/** @param type the component type, creates arrays using reflection like {@link ReflectionArrayPool}
+	 *  @return a ConcurrentArrayPool of arrays of the given type */
+	public static <T> ConcurrentArrayPool<T[]> of(final Class<T> type, int max, int maxEach, int magazineSize) {
+		return new ConcurrentArrayPool<T[]>(max, maxEach, magazineSize) {
+			@Override
+			protected AbstractArrayPool<T[]> newPool(int max, int maxEach) {
+				return new ReflectionArrayPool<>(type, max, maxEach);
+			}
+		};
+	}
+
+}
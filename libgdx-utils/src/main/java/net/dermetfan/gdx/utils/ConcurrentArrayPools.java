@@ -0,0 +1,130 @@
+package net.dermetfan.gdx.utils;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/** the thread-safe counterpart of {@link ArrayPools}, stores {@link ConcurrentArrayPool ConcurrentArrayPools} for convenient static access from any thread
+ *  <strong>Does NOT work on HTML5!</strong>
+ *  @since 0.13.8 */
+public class ConcurrentArrayPools {
+
+	/** holds pools by type */
+	private static final ConcurrentMap<Class, ConcurrentArrayPool> typePools = new ConcurrentHashMap<>();
+
+	/** a static pool for float arrays */
+	private static volatile ConcurrentArrayPool<float[]> floatPool;
+
+	/** a static pool for int arrays */
+	private static volatile ConcurrentArrayPool<int[]> intPool;
+
+	/** the maximum amount of arrays of the same length the pools created by this class keep per thread (16 by default) */
+	public static int magazineSize = 16;
+
+	/** note the max and maxEach sizes are ignored if this is not the first time this pool has been requested
+	 *  @return a new {@link ConcurrentArrayPool#of(Class, int, int, int) ConcurrentArrayPool} or existing pool for the specified type */
+	public static <T> ConcurrentArrayPool<T[]> get(Class<T> type, int max, int maxEach) {
+		@SuppressWarnings("unchecked")
+		ConcurrentArrayPool<T[]> pool = typePools.get(type);
+		if(pool == null) {
+			pool = ConcurrentArrayPool.of(type, max, maxEach, magazineSize);
+			@SuppressWarnings("unchecked")
+			ConcurrentArrayPool<T[]> existing = typePools.putIfAbsent(type, pool);
+			if(existing != null)
+				pool = existing;
+		}
+		return pool;
+	}
+
+	/** @see #get(Class, int, int) */
+	public static ConcurrentArrayPool<float[]> getFloats(int max, int maxEach) {
+		ConcurrentArrayPool<float[]> pool = floatPool;
+		if(pool == null)
+			synchronized(ConcurrentArrayPools.class) {
+				if((pool = floatPool) == null)
+					floatPool = pool = ConcurrentArrayPool.floats(max, maxEach, magazineSize);
+			}
+		return pool;
+	}
+
+	/** @see #get(Class, int, int) */
+	public static ConcurrentArrayPool<int[]> getInts(int max, int maxEach) {
+		ConcurrentArrayPool<int[]> pool = intPool;
+		if(pool == null)
+			synchronized(ConcurrentArrayPools.class) {
+				if((pool = intPool) == null)
+					intPool = pool = ConcurrentArrayPool.ints(max, maxEach, magazineSize);
+			}
+		return pool;
+	}
+
+	/** calls {@link #get(Class, int, int)} with a max size of -1 (no max size) and a maxEach size of 100
+	 *  @see #get(Class, int, int) */
+	public static <T> ConcurrentArrayPool<T[]> get(Class<T> type) {
+		return get(type, -1, 100);
+	}
+
+	/** @see #get(Class) */
+	public static ConcurrentArrayPool<float[]> getFloats() {
+		return getFloats(-1, 100);
+	}
+
+	/** @see #get(Class) */
+	public static ConcurrentArrayPool<int[]> getInts() {
+		return getInts(-1, 100);
+	}
+
+	/** @param type the type for which to set the pool
+	 *  @param pool the pool to set for the given type */
+	public static <T> void set(Class<T> type, ConcurrentArrayPool<T[]> pool) {
+		typePools.put(type, pool);
+	}
+
+	/** @param pool the pool to use for float arrays */
+	public static void setFloats(ConcurrentArrayPool<float[]> pool) {
+		floatPool = pool;
+	}
+
+	/** @param pool the pool to use for int arrays */
+	public static void setInts(ConcurrentArrayPool<int[]> pool) {
+		intPool = pool;
+	}
+
+	/** @see ConcurrentArrayPool#obtain(int) */
+	public static <T> T[] obtain(Class<T> type, int length) {
+		if(type.isPrimitive())
+			throw new IllegalArgumentException("Cannot return primitive array without boxing. Use obtain" + (type == float.class ? "Float" : type == int.class ? "Int" : "[Type]") + "s(int) instead.");
+		return get(type).obtain(length);
+	}
+
+	/** @see ConcurrentArrayPool#obtain(int) */
+	public static float[] obtainFloats(int length) {
+		return getFloats().obtain(length);
+	}
+
+	/** @see ConcurrentArrayPool#obtain(int) */
+	public static int[] obtainInts(int length) {
+		return getInts().obtain(length);
+	}
+
+	/** @see ConcurrentArrayPool#free(Object) */
+	public static <T> void free(T[] array) {
+		if(array == null)
+			throw new IllegalArgumentException("array cannot be null");
+		@SuppressWarnings("unchecked")
+		ConcurrentArrayPool<T[]> pool = (ConcurrentArrayPool<T[]>) (ConcurrentArrayPool) get(array.getClass().getComponentType());
+		pool.free(array);
+	}
+
+	/** @see ConcurrentArrayPool#free(Object) */
+	public static void free(float[] array) {
+		getFloats().free(array);
+	}
+
+	/** @see ConcurrentArrayPool#free(Object) */
+	public static void free(int[] array) {
+		getInts().free(array);
+	}
+
+	private ConcurrentArrayPools() {}
+
+}
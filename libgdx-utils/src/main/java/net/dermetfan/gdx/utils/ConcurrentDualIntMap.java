@@ -0,0 +1,147 @@
+package net.dermetfan.gdx.utils;
+
+import java.util.concurrent.locks.StampedLock;
+
+/** the int keyed counterpart of {@link ConcurrentDualObjectMap}, for example to resolve entity IDs from another thread
+ *  The entries are held in a {@link DualIntMap} so that keys are not boxed. Like in ConcurrentDualObjectMap, reads in both directions are optimistic and lock-free. They probe the tables without a lock, and only if a write happened at the same time is the result discarded and the read repeated under the read lock.
+ *  A read that overlaps a write may see the tables torn, for example in the middle of a resize, which can make the probe throw. Such exceptions are discarded together with the result. Readers never observe a mapping in one direction without the other.
+ *  <strong>Does NOT work on HTML5!</strong>
+ *  @param <V> the value type
+ *  @since 0.13.8 */
+public class ConcurrentDualIntMap<V> {
+
+	/** the entries, only written under the write lock */
+	private final DualIntMap<V> map;
+
+	/** guards the map */
+	private final StampedLock lock = new StampedLock();
+
+	public ConcurrentDualIntMap() {
+		map = new DualIntMap<>();
+	}
+
+	/** @param initialCapacity the number of entries the map can hold before growing */
+	public ConcurrentDualIntMap(int initialCapacity) {
+		map = new DualIntMap<>(initialCapacity);
+	}
+
+	/** @see DualIntMap#put(int, Object) */
+	public void put(int key, V value) {
+		long stamp = lock.writeLock();
+		try {
+			map.put(key, value);
+		} finally {
+			lock.unlockWrite(stamp);
+		}
+	}
+
+	/** @return the key of the given value, or the default key if there is none */
+	public int getKey(V value, int defaultKey) {
+		long stamp = lock.tryOptimisticRead();
+		if(stamp != 0)
+			try {
+				int key = map.racyGetKey(value, defaultKey);
+				if(lock.validate(stamp))
+					return key;
+			} catch(RuntimeException e) {
+				if(lock.validate(stamp))
+					throw e;
+			}
+		stamp = lock.readLock();
+		try {
+			return map.getKey(value, defaultKey);
+		} finally {
+			lock.unlockRead(stamp);
+		}
+	}
+
+	/** @see DualIntMap#getValue(int) */
+	public V getValue(int key) {
+		long stamp = lock.tryOptimisticRead();
+		if(stamp != 0)
+			try {
+				V value = map.racyGetValue(key);
+				if(lock.validate(stamp))
+					return value;
+			} catch(RuntimeException e) {
+				if(lock.validate(stamp))
+					throw e;
+			}
+		stamp = lock.readLock();
+		try {
+			return map.getValue(key);
+		} finally {
+			lock.unlockRead(stamp);
+		}
+	}
+
+	/** @see DualIntMap#containsKey(int) */
+	public boolean containsKey(int key) {
+		return getValue(key) != null;
+	}
+
+	/** @see DualIntMap#containsValue(Object) */
+	public boolean containsValue(V value) {
+		long stamp = lock.tryOptimisticRead();
+		if(stamp != 0)
+			try {
+				boolean contains = map.racyIndexOfValue(value, map.values) >= 0;
+				if(lock.validate(stamp))
+					return contains;
+			} catch(RuntimeException e) {
+				if(lock.validate(stamp))
+					throw e;
+			}
+		stamp = lock.readLock();
+		try {
+			return map.containsValue(value);
+		} finally {
+			lock.unlockRead(stamp);
+		}
+	}
+
+	/** @see DualIntMap#removeKey(int) */
+	public V removeKey(int key) {
+		long stamp = lock.writeLock();
+		try {
+			return map.removeKey(key);
+		} finally {
+			lock.unlockWrite(stamp);
+		}
+	}
+
+	/** @return the key of the removed value, or the default key if there was none */
+	public int removeValue(V value, int defaultKey) {
+		long stamp = lock.writeLock();
+		try {
+			return map.removeValue(value, defaultKey);
+		} finally {
+			lock.unlockWrite(stamp);
+		}
+	}
+
+	/** removes all entries */
+	public void clear() {
+		long stamp = lock.writeLock();
+		try {
+			map.clear();
+		} finally {
+			lock.unlockWrite(stamp);
+		}
+	}
+
+	/** @return the number of entries */
+	public int getSize() {
+		long stamp = lock.tryOptimisticRead();
+		int size = map.getSize();
+		if(lock.validate(stamp))
+			return size;
+		stamp = lock.readLock();
+		try {
+			return map.getSize();
+		} finally {
+			lock.unlockRead(stamp);
+		}
+	}
+
+}
@@ -0,0 +1,134 @@
+package net.dermetfan.gdx.utils;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.StampedLock;
+
+/** A thread-safe counterpart of {@link DualObjectMap}. Reads in both directions are lock-free: they are done optimistically and only retried under a read lock if a write happened at the same time (like a seqlock).
+ *  Writes update both directions under one write lock, so a reader never sees a mapping in one direction without the other.
+ *  Null keys and values are not allowed.
+ *  <strong>Does NOT work on HTML5!</strong>
+ *  @param <K> the key type
+ *  @param <V> the value type
+ *  @since 0.13.8 */
+public class ConcurrentDualObjectMap<K, V> {
+
+	/** the map holding keys as keys */
+	private final ConcurrentHashMap<K, V> keyToValue;
+
+	/** the map holding values as keys */
+	private final ConcurrentHashMap<V, K> valueToKey;
+
+	/** makes writes of both maps appear atomic to readers */
+	private final StampedLock lock = new StampedLock();
+
+	public ConcurrentDualObjectMap() {
+		this(16);
+	}
+
+	/** @param initialCapacity the number of entries the map can hold before growing */
+	public ConcurrentDualObjectMap(int initialCapacity) {
+		keyToValue = new ConcurrentHashMap<>(initialCapacity);
+		valueToKey = new ConcurrentHashMap<>(initialCapacity);
+	}
+
+	/** Maps the key and value to each other. Previous entries of the key or the value are removed.
+	 *  @see DualObjectMap#put(Object, Object) */
+	public void put(K key, V value) {
+		if(key == null)
+			throw new IllegalArgumentException("key cannot be null");
+		if(value == null)
+			throw new IllegalArgumentException("value cannot be null");
+		long stamp = lock.writeLock();
+		try {
+			V oldValue = keyToValue.put(key, value);
+			if(oldValue != null && !oldValue.equals(value))
+				valueToKey.remove(oldValue);
+			K oldKey = valueToKey.put(value, key);
+			if(oldKey != null && !oldKey.equals(key))
+				keyToValue.remove(oldKey);
+		} finally {
+			lock.unlockWrite(stamp);
+		}
+	}
+
+	/** @return the key of the given value, or null if there is none */
+	public K getKey(V value) {
+		long stamp = lock.tryOptimisticRead();
+		K key = valueToKey.get(value);
+		if(lock.validate(stamp))
+			return key;
+		stamp = lock.readLock();
+		try {
+			return valueToKey.get(value);
+		} finally {
+			lock.unlockRead(stamp);
+		}
+	}
+
+	/** @return the value of the given key, or null if there is none */
+	public V getValue(K key) {
+		long stamp = lock.tryOptimisticRead();
+		V value = keyToValue.get(key);
+		if(lock.validate(stamp))
+			return value;
+		stamp = lock.readLock();
+		try {
+			return keyToValue.get(key);
+		} finally {
+			lock.unlockRead(stamp);
+		}
+	}
+
+	/** @return if there is an entry with the given key */
+	public boolean containsKey(K key) {
+		return getValue(key) != null;
+	}
+
+	/** @return if there is an entry with the given value */
+	public boolean containsValue(V value) {
+		return getKey(value) != null;
+	}
+
+	/** @return the value of the removed key, or null if there was none */
+	public V removeKey(K key) {
+		long stamp = lock.writeLock();
+		try {
+			V value = keyToValue.remove(key);
+			if(value != null)
+				valueToKey.remove(value);
+			return value;
+		} finally {
+			lock.unlockWrite(stamp);
+		}
+	}
+
+	/** @return the key of the removed value, or null if there was none */
+	public K removeValue(V value) {
+		long stamp = lock.writeLock();
+		try {
+			K key = valueToKey.remove(value);
+			if(key != null)
+				keyToValue.remove(key);
+			return key;
+		} finally {
+			lock.unlockWrite(stamp);
+		}
+	}
+
+	/** removes all entries */
+	public void clear() {
+		long stamp = lock.writeLock();
+		try {
+			keyToValue.clear();
+			valueToKey.clear();
+		} finally {
+			lock.unlockWrite(stamp);
+		}
+	}
+
+	/** @return the number of entries */
+	public int getSize() {
+		return keyToValue.size();
+	}
+
+}
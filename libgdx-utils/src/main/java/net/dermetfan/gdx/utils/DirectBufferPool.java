@@ -0,0 +1,90 @@
+package net.dermetfan.gdx.utils;
+
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.FloatBuffer;
+import java.nio.ShortBuffer;
+
+import com.badlogic.gdx.utils.BufferUtils;
+
+/** Pools direct buffers in native byte order, for example to upload vertex data every frame without allocating new buffers.
+ *  Buffers are kept in power-of-two size classes like in {@link SizeClassArrayPool}, so a buffer can be reused for any capacity in its class.
+ *  The float and short buffers are views of direct byte buffers created by {@link BufferUtils}.
+ *  @param <B> the buffer type
+ *  @since 0.13.8 */
+public abstract class DirectBufferPool<B extends Buffer> extends SizeClassArrayPool<B> {
+
+	/** @param maxEach the maximum amount of buffers in the same size class that will be pooled */
+	public DirectBufferPool(int maxEach) {
+		super(maxEach);
+	}
+
+	/** @param capacity the minimum capacity of the buffer in elements
+	 *  @return a buffer with at least the given capacity, its position is zero and its limit the given capacity */
+	@Override
+	public B obtain(int capacity) {
+		B buffer = super.obtain(capacity);
+		buffer.clear();
+		buffer.limit(capacity);
+		return buffer;
+	}
+
+	/** @param buffer the direct buffer to put back into the pool */
+	@Override
+	public boolean offer(B buffer) {
+		if(buffer != null && !buffer.isDirect())
+			throw new IllegalArgumentException("buffer is not direct: " + buffer);
+		return super.offer(buffer);
+	}
+
+	@Override
+	protected int length(B buffer) {
+		return buffer.capacity();
+	}
+
+	/** @return a DirectBufferPool of byte buffers */
+	public static DirectBufferPool<ByteBuffer> byteBuffers(int maxEach) {
+		return new DirectBufferPool<ByteBuffer>(maxEach) {
+			@Override
+			protected ByteBuffer newArray(int capacity) {
+				return BufferUtils.newByteBuffer(capacity);
+			}
+
+			@Override
+			protected int elementBytes() {
+				return 1;
+			}
+		};
+	}
+
+	/** @return a DirectBufferPool of float buffers */
+	public static DirectBufferPool<FloatBuffer> floatBuffers(int maxEach) {
+		return new DirectBufferPool<FloatBuffer>(maxEach) {
+			@Override
+			protected FloatBuffer newArray(int capacity) {
+				return BufferUtils.newFloatBuffer(capacity);
+			}
+
+			@Override
+			protected int elementBytes() {
+				return 4;
+			}
+		};
+	}
+
+	/** @return a DirectBufferPool of short buffers */
+	public static DirectBufferPool<ShortBuffer> shortBuffers(int maxEach) {
+		return new DirectBufferPool<ShortBuffer>(maxEach) {
+			@Override
+			protected ShortBuffer newArray(int capacity) {
+				return BufferUtils.newShortBuffer(capacity);
+			}
+
+			@Override
+			protected int elementBytes() {
+				return 2;
+			}
+		};
+	}
+
+}
@@ -15,99 +15,185 @@
 package net.dermetfan.gdx.utils;
 
 import com.badlogic.gdx.utils.IntMap;
-import com.badlogic.gdx.utils.IntMap.Keys;
 import com.badlogic.gdx.utils.ObjectIntMap;
 
-/** an {@link IntMap} and {@link ObjectIntMap} holding each others contents in reverse for fast retrieval of both keys and values
+/** a bidirectional map of int keys and values for fast retrieval of both keys and values, see {@link AbstractDualMap}
  *  @author dermetfan
  *  @since 0.6.0 */
-public class DualIntMap<V> {
+public class DualIntMap<V> extends AbstractDualMap<V> {
 
-	/** The map holding keys as keys. Do not modify this! */
-	private final IntMap<V> keyToValue;
-
-	/** The map holding values as keys. Do not modify this! */
-	private final ObjectIntMap<V> valueToKey;
+	/** the keys of the entries, parallel to the values (not initialized here because the super constructor allocates it) */
+	private int[] keys;
 
 	/** @see IntMap#IntMap() */
 	public DualIntMap() {
-		keyToValue = new IntMap<>();
-		valueToKey = new ObjectIntMap<>();
+		this(51, 0.8f);
 	}
 
 	/** @see IntMap#IntMap(int) */
 	public DualIntMap(int initialCapacity) {
-		keyToValue = new IntMap<>(initialCapacity);
-		valueToKey = new ObjectIntMap<>(initialCapacity);
+		this(initialCapacity, 0.8f);
 	}
 
 	/** @see IntMap#IntMap(int, float) */
 	public DualIntMap(int initialCapacity, float loadFactor) {
-		keyToValue = new IntMap<>(initialCapacity, loadFactor);
-		valueToKey = new ObjectIntMap<>(initialCapacity, loadFactor);
+		super(initialCapacity, loadFactor);
 	}
 
 	/** @see IntMap#IntMap(IntMap) */
 	public DualIntMap(IntMap<V> map) {
-		keyToValue = new IntMap<>(map);
-		valueToKey = new ObjectIntMap<>(map.size);
-		Keys keys = map.keys();
-		while(keys.hasNext) {
-			int key = keys.next();
-			valueToKey.put(map.get(key), key);
-		}
+		this(map.size);
+		for(IntMap.Entry<V> entry : map.entries())
+			put(entry.key, entry.value);
 	}
 
 	/** @param map the map to copy */
 	public DualIntMap(DualIntMap<V> map) {
-		keyToValue = new IntMap<>(map.keyToValue);
-		valueToKey = new ObjectIntMap<>(map.valueToKey);
+		super(map);
+		keys = map.keys.clone();
+	}
+
+	/** @return the slot in which the given key belongs */
+	private int place(int key) {
+		return (int) (key * 0x9E3779B97F4A7C15L >>> shift);
+	}
+
+	@Override
+	protected int placeKey(int index) {
+		return place(keys[index]);
+	}
+
+	@Override
+	protected void resizeKeys(int length) {
+		int[] newKeys = new int[length];
+		if(keys != null)
+			System.arraycopy(keys, 0, newKeys, 0, size);
+		keys = newKeys;
+	}
+
+	@Override
+	protected void moveKey(int from, int to) {
+		keys[to] = keys[from];
+	}
+
+	/** @return the index of the entry with the given key, or -1 if there is none */
+	private int indexOfKey(int key) {
+		for(int slot = place(key); ; slot = next(slot)) {
+			int index = keyIndex(slot);
+			if(index < 0 || keys[index] == key)
+				return index;
+		}
+	}
+
+	/** like {@link #getValue(int)} for a reader racing with a writer, see {@link AbstractDualMap#racyIndexOfValue(Object, Object[])} */
+	V racyGetValue(int key) {
+		int[] table = keyTable(), keys = this.keys;
+		V[] values = this.values;
+		int mask = table.length - 1;
+		int slot = (int) (key * 0x9E3779B97F4A7C15L >>> Long.numberOfLeadingZeros(mask)) & mask;
+		for(int probes = 0; probes <= mask; probes++, slot = slot + 1 & mask) {
+			int index = table[slot] - 1;
+			if(index < 0)
+				return null;
+			if(keys[index] == key)
+				return values[index];
+		}
+		return null;
+	}
+
+	/** like {@link #getKey(Object, int)} for a reader racing with a writer, see {@link AbstractDualMap#racyIndexOfValue(Object, Object[])} */
+	int racyGetKey(V value, int defaultKey) {
+		int[] keys = this.keys;
+		int index = racyIndexOfValue(value, values);
+		return index < 0 ? defaultKey : keys[index];
 	}
 
-	/** @see IntMap#put(int, Object) */
+	/** Maps the key and value to each other. Previous entries of the key or the value are removed.
+	 *  @see IntMap#put(int, Object) */
 	public void put(int key, V value) {
-		keyToValue.put(key, value);
-		valueToKey.put(value, key);
+		if(value == null)
+			throw new IllegalArgumentException("value cannot be null");
+		int index = indexOfKey(key);
+		if(index >= 0) {
+			if(values[index].equals(value)) {
+				values[index] = value;
+				return;
+			}
+			removeEntry(index);
+		}
+		if((index = indexOfValue(value)) >= 0)
+			removeEntry(index);
+		index = newEntry(value);
+		keys[index] = key;
+		link(index);
 	}
 
 	/** @return the key of the given value as {@link IntMap#findKey(Object, boolean, int)} would return */
 	public int getKey(V value, int defaultKey) {
-		return valueToKey.get(value, defaultKey);
+		int index = indexOfValue(value);
+		return index < 0 ? defaultKey : keys[index];
 	}
 
 	/** @see IntMap#get(int) */
 	public V getValue(int key) {
-		return keyToValue.get(key);
+		int index = indexOfKey(key);
+		return index < 0 ? null : values[index];
+	}
+
+	/** @see IntMap#containsKey(int) */
+	public boolean containsKey(int key) {
+		return indexOfKey(key) >= 0;
 	}
 
 	/** @see IntMap#remove(int) */
 	public V removeKey(int key) {
-		V value = keyToValue.remove(key);
-		if(value != null) {
-			int removed = valueToKey.remove(value, key);
-			assert removed == key;
-		}
+		int index = indexOfKey(key);
+		if(index < 0)
+			return null;
+		V value = values[index];
+		removeEntry(index);
 		return value;
 	}
 
 	/** like what {@code intMap.remove(intMap.findKey(value, true, defaultValue))} would do */
 	public int removeValue(V value, int defaultKey) {
-		int key = valueToKey.remove(value, defaultKey);
-		keyToValue.remove(key);
+		int index = indexOfValue(value);
+		if(index < 0)
+			return defaultKey;
+		int key = keys[index];
+		removeEntry(index);
 		return key;
 	}
 
+	/** @param index the index of the entry, less than {@link #getSize()}
+	 *  @return the key of the entry at the given index */
+	public int getKeyAt(int index) {
+		if(index >= size)
+			throw new IndexOutOfBoundsException("index can't be >= size: " + index + " >= " + size);
+		return keys[index];
+	}
+
 	// getters and setters
 
-	/** @return The {@link #keyToValue}. Only use this if you know what you're doing!
-	 *  @since 0.7.1 */
+	/** @return a new {@link IntMap} holding the keys and values
+	 *  @since 0.7.1
+	 *  @deprecated the entries are no longer held in an IntMap, so this creates a copy */
+	@Deprecated
 	public IntMap<V> getKeyToValue() {
+		IntMap<V> keyToValue = new IntMap<>(size);
+		for(int i = 0; i < size; i++)
+			keyToValue.put(keys[i], values[i]);
 		return keyToValue;
 	}
 
-	/** @return The {@link #valueToKey}. Only use this if you know what you're doing!
-	 *  @since 0.7.1 */
+	/** @return a new {@link ObjectIntMap} holding the values and keys
+	 *  @since 0.7.1
+	 *  @deprecated the entries are no longer held in an ObjectIntMap, so this creates a copy */
+	@Deprecated
 	public ObjectIntMap<V> getValueToKey() {
+		ObjectIntMap<V> valueToKey = new ObjectIntMap<>(size);
+		for(int i = 0; i < size; i++)
+			valueToKey.put(values[i], keys[i]);
 		return valueToKey;
 	}
 
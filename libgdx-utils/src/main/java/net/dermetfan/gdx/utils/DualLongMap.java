@@ -0,0 +1,137 @@
+package net.dermetfan.gdx.utils;
+
+import com.badlogic.gdx.utils.LongMap;
+
+/** a bidirectional map of long keys, for example native addresses, and values for fast retrieval of both keys and values, see {@link AbstractDualMap}
+ *  @since 0.13.8 */
+public class DualLongMap<V> extends AbstractDualMap<V> {
+
+	/** the keys of the entries, parallel to the values (not initialized here because the super constructor allocates it) */
+	private long[] keys;
+
+	/** @see LongMap#LongMap() */
+	public DualLongMap() {
+		this(51, 0.8f);
+	}
+
+	/** @see LongMap#LongMap(int) */
+	public DualLongMap(int initialCapacity) {
+		this(initialCapacity, 0.8f);
+	}
+
+	/** @see LongMap#LongMap(int, float) */
+	public DualLongMap(int initialCapacity, float loadFactor) {
+		super(initialCapacity, loadFactor);
+	}
+
+	/** @see LongMap#LongMap(LongMap) */
+	public DualLongMap(LongMap<V> map) {
+		this(map.size);
+		for(LongMap.Entry<V> entry : map.entries())
+			put(entry.key, entry.value);
+	}
+
+	/** @param map the map to copy */
+	public DualLongMap(DualLongMap<V> map) {
+		super(map);
+		keys = map.keys.clone();
+	}
+
+	/** @return the slot in which the given key belongs */
+	private int place(long key) {
+		return (int) (key * 0x9E3779B97F4A7C15L >>> shift);
+	}
+
+	@Override
+	protected int placeKey(int index) {
+		return place(keys[index]);
+	}
+
+	@Override
+	protected void resizeKeys(int length) {
+		long[] newKeys = new long[length];
+		if(keys != null)
+			System.arraycopy(keys, 0, newKeys, 0, size);
+		keys = newKeys;
+	}
+
+	@Override
+	protected void moveKey(int from, int to) {
+		keys[to] = keys[from];
+	}
+
+	/** @return the index of the entry with the given key, or -1 if there is none */
+	private int indexOfKey(long key) {
+		for(int slot = place(key); ; slot = next(slot)) {
+			int index = keyIndex(slot);
+			if(index < 0 || keys[index] == key)
+				return index;
+		}
+	}
+
+	/** Maps the key and value to each other. Previous entries of the key or the value are removed.
+	 *  @see LongMap#put(long, Object) */
+	public void put(long key, V value) {
+		if(value == null)
+			throw new IllegalArgumentException("value cannot be null");
+		int index = indexOfKey(key);
+		if(index >= 0) {
+			if(values[index].equals(value)) {
+				values[index] = value;
+				return;
+			}
+			removeEntry(index);
+		}
+		if((index = indexOfValue(value)) >= 0)
+			removeEntry(index);
+		index = newEntry(value);
+		keys[index] = key;
+		link(index);
+	}
+
+	/** @return the key of the given value as {@link LongMap#findKey(Object, boolean, long)} would return */
+	public long getKey(V value, long defaultKey) {
+		int index = indexOfValue(value);
+		return index < 0 ? defaultKey : keys[index];
+	}
+
+	/** @see LongMap#get(long) */
+	public V getValue(long key) {
+		int index = indexOfKey(key);
+		return index < 0 ? null : values[index];
+	}
+
+	/** @see LongMap#containsKey(long) */
+	public boolean containsKey(long key) {
+		return indexOfKey(key) >= 0;
+	}
+
+	/** @see LongMap#remove(long) */
+	public V removeKey(long key) {
+		int index = indexOfKey(key);
+		if(index < 0)
+			return null;
+		V value = values[index];
+		removeEntry(index);
+		return value;
+	}
+
+	/** like what {@code longMap.remove(longMap.findKey(value, true, defaultValue))} would do */
+	public long removeValue(V value, long defaultKey) {
+		int index = indexOfValue(value);
+		if(index < 0)
+			return defaultKey;
+		long key = keys[index];
+		removeEntry(index);
+		return key;
+	}
+
+	/** @param index the index of the entry, less than {@link #getSize()}
+	 *  @return the key of the entry at the given index */
+	public long getKeyAt(int index) {
+		if(index >= size)
+			throw new IndexOutOfBoundsException("index can't be >= size: " + index + " >= " + size);
+		return keys[index];
+	}
+
+}
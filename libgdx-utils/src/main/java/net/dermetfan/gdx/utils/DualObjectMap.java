@@ -16,99 +16,169 @@ package net.dermetfan.gdx.utils;
 
 import com.badlogic.gdx.utils.ObjectMap;
 
-/** Two {@link ObjectMap ObjectMaps} holding each other's contents in reverse for fast retrieval of both keys and values.
- *  This causes null values not to be allowed.
+/** A bidirectional map for fast retrieval of both keys and values, see {@link AbstractDualMap}.
+ *  Null keys and values are not allowed.
  *  @author dermetfan
  *  @since 0.6.0 */
-public class DualObjectMap<K, V> {
+public class DualObjectMap<K, V> extends AbstractDualMap<V> {
 
-	/** The map holding keys as keys. Do not modify this! */
-	private final ObjectMap<K, V> keyToValue;
-
-	/** The map holding values as keys. Do not modify this! */
-	private final ObjectMap<V, K> valueToKey;
+	/** the keys of the entries, parallel to the values (not initialized here because the super constructor allocates it) */
+	private K[] keys;
 
 	/** @see ObjectMap#ObjectMap() */
 	public DualObjectMap() {
-		keyToValue = new ObjectMap<>();
-		valueToKey = new ObjectMap<>();
+		this(51, 0.8f);
 	}
 
 	/** @see ObjectMap#ObjectMap(int) */
 	public DualObjectMap(int initialCapacity) {
-		keyToValue = new ObjectMap<>(initialCapacity);
-		valueToKey = new ObjectMap<>(initialCapacity);
+		this(initialCapacity, 0.8f);
 	}
 
 	/** @see ObjectMap#ObjectMap(int, float) */
 	public DualObjectMap(int initialCapacity, float loadFactor) {
-		keyToValue = new ObjectMap<>(initialCapacity, loadFactor);
-		valueToKey = new ObjectMap<>(initialCapacity, loadFactor);
+		super(initialCapacity, loadFactor);
 	}
 
 	/** @see ObjectMap#ObjectMap(ObjectMap) */
 	public DualObjectMap(ObjectMap<K, V> map) {
-		keyToValue = new ObjectMap<>(map);
-		valueToKey = new ObjectMap<>(map.size);
-		for(K key : map.keys())
-			valueToKey.put(map.get(key), key);
+		this(map.size);
+		for(ObjectMap.Entry<K, V> entry : map.entries())
+			put(entry.key, entry.value);
 	}
 
 	/** @param map the map to copy */
 	public DualObjectMap(DualObjectMap<K, V> map) {
-		keyToValue = new ObjectMap<>(map.keyToValue);
-		valueToKey = new ObjectMap<>(map.valueToKey);
+		super(map);
+		keys = map.keys.clone();
+	}
+
+	@Override
+	protected int placeKey(int index) {
+		return place(keys[index]);
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	protected void resizeKeys(int length) {
+		K[] newKeys = (K[]) new Object[length];
+		if(keys != null)
+			System.arraycopy(keys, 0, newKeys, 0, size);
+		keys = newKeys;
+	}
+
+	@Override
+	protected void moveKey(int from, int to) {
+		keys[to] = keys[from];
+	}
+
+	@Override
+	protected void clearKey(int index) {
+		keys[index] = null;
 	}
 
-	/** @see ObjectMap#put(Object, Object) */
+	/** @return the index of the entry with the given key, or -1 if there is none */
+	private int indexOfKey(K key) {
+		for(int slot = place(key); ; slot = next(slot)) {
+			int index = keyIndex(slot);
+			if(index < 0 || keys[index].equals(key))
+				return index;
+		}
+	}
+
+	/** Maps the key and value to each other. Previous entries of the key or the value are removed.
+	 *  @see ObjectMap#put(Object, Object) */
 	public void put(K key, V value) {
-		keyToValue.put(key, value);
-		valueToKey.put(value, key);
+		if(key == null)
+			throw new IllegalArgumentException("key cannot be null");
+		if(value == null)
+			throw new IllegalArgumentException("value cannot be null");
+		int index = indexOfKey(key);
+		if(index >= 0) {
+			if(values[index].equals(value)) {
+				keys[index] = key;
+				values[index] = value;
+				return;
+			}
+			removeEntry(index);
+		}
+		if((index = indexOfValue(value)) >= 0)
+			removeEntry(index);
+		index = newEntry(value);
+		keys[index] = key;
+		link(index);
 	}
 
 	/** @return the key of the given value as {@link ObjectMap#findKey(Object, boolean)} would return */
 	public K getKey(V value) {
-		K key = valueToKey.get(value);
-		assert key != null;
-		return key;
+		int index = indexOfValue(value);
+		assert index >= 0;
+		return index < 0 ? null : keys[index];
 	}
 
 	/** @see ObjectMap#get(Object) */
 	public V getValue(K key) {
-		V value = keyToValue.get(key);
-		assert value != null;
-		return value;
+		int index = indexOfKey(key);
+		assert index >= 0;
+		return index < 0 ? null : values[index];
+	}
+
+	/** @see ObjectMap#containsKey(Object) */
+	public boolean containsKey(K key) {
+		return indexOfKey(key) >= 0;
 	}
 
 	/** @see ObjectMap#remove(Object) */
 	public V removeKey(K key) {
-		V value = keyToValue.remove(key);
-		assert value != null;
-		K removed = valueToKey.remove(value);
-		assert removed != null;
+		int index = indexOfKey(key);
+		assert index >= 0;
+		if(index < 0)
+			return null;
+		V value = values[index];
+		removeEntry(index);
 		return value;
 	}
 
 	/** like what {@code objectMap.remove(objectMap.findKey(value))} would do */
 	public K removeValue(V value) {
-		K key = valueToKey.remove(value);
-		assert key != null;
-		V oldObject = keyToValue.remove(key);
-		assert oldObject != null;
+		int index = indexOfValue(value);
+		assert index >= 0;
+		if(index < 0)
+			return null;
+		K key = keys[index];
+		removeEntry(index);
 		return key;
 	}
 
+	/** @param index the index of the entry, less than {@link #getSize()}
+	 *  @return the key of the entry at the given index */
+	public K getKeyAt(int index) {
+		if(index >= size)
+			throw new IndexOutOfBoundsException("index can't be >= size: " + index + " >= " + size);
+		return keys[index];
+	}
+
 	// getters and setters
 
-	/** @return The {@link #keyToValue}. Only use this if you know what you're doing!
-	 *  @since 0.7.1 */
+	/** @return a new {@link ObjectMap} holding the keys and values
+	 *  @since 0.7.1
+	 *  @deprecated the entries are no longer held in an ObjectMap, so this creates a copy */
+	@Deprecated
 	public ObjectMap<K, V> getKeyToValue() {
+		ObjectMap<K, V> keyToValue = new ObjectMap<>(size);
+		for(int i = 0; i < size; i++)
+			keyToValue.put(keys[i], values[i]);
 		return keyToValue;
 	}
 
-	/** @return The {@link #valueToKey}. Only use this if you know what you're doing!
-	 *  @since 0.7.1 */
+	/** @return a new {@link ObjectMap} holding the values and keys
+	 *  @since 0.7.1
+	 *  @deprecated the entries are no longer held in an ObjectMap, so this creates a copy */
+	@Deprecated
 	public ObjectMap<V, K> getValueToKey() {
+		ObjectMap<V, K> valueToKey = new ObjectMap<>(size);
+		for(int i = 0; i < size; i++)
+			valueToKey.put(values[i], keys[i]);
 		return valueToKey;
 	}
 
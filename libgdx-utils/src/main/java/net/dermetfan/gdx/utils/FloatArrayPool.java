@@ -14,85 +14,40 @@
 
 package net.dermetfan.gdx.utils;
 
-import com.badlogic.gdx.utils.IntMap;
-import com.badlogic.gdx.utils.Pool;
-import com.badlogic.gdx.utils.PooledLinkedList;
-
 /** pools arrays by their size
  *  @author dermetfan
  *  @since 0.11.1 */
-public class FloatArrayPool {
-
-	private final IntMap<PooledLinkedList<float[]>> lists;
-	private final Pool<PooledLinkedList<float[]>> listPool;
-
-	/** the maximum amount of arrays of different lengths that will be pooled */
-	public final int max;
-
-	/** the maximum amount of arrays of the same length that will be pooled */
-	public final int maxEach;
-
-	public FloatArrayPool(int max, final int maxEach) {
-		this.max = max;
-		this.maxEach = maxEach;
+public class FloatArrayPool extends AbstractArrayPool<float[]> {
 
-		lists = new IntMap<>(max < 0 ? 10 : max, 1);
-		listPool = new Pool<PooledLinkedList<float[]>>() {
-			@Override
-			protected PooledLinkedList<float[]> newObject() {
-				return new PooledLinkedList<>(maxEach);
-			}
-		};
+	public FloatArrayPool(int max, int maxEach) {
+		super(max, maxEach);
 	}
 
 	/** @param length the desired length of the array */
+	@Override
 	public float[] obtain(int length) {
-		if(length < 0)
-			throw new IllegalArgumentException("negative array length: " + length);
-		PooledLinkedList<float[]> list = lists.get(length);
-		if(list == null)
-			return new float[length];
-		list.iterReverse();
-		float[] array = list.previous();
-		list.remove();
-		if(list.previous() == null) {
-			lists.remove(length);
-			listPool.free(list);
-		}
-		return array;
+		return super.obtain(length);
 	}
 
 	/** @param array the array to put back into the pool */
+	@Override
 	public void free(float[] array) {
-		if(array == null)
-			throw new IllegalArgumentException("array cannot be null");
-		PooledLinkedList<float[]> list = lists.get(array.length);
-		if(list == null && lists.size < max) {
-			list = listPool.obtain();
-			lists.put(array.length, list);
-		}
-		if(list != null && size(list) < maxEach)
-			list.add(array);
+		super.free(array);
 	}
 
-	public void clear() {
-		for(PooledLinkedList<float[]> list : lists.values())
-			list.clear();
-		lists.clear();
+	@Override
+	protected float[] newArray(int length) {
+		return new float[length];
 	}
 
-	/** @return the number of arrays of the given length in the pool */
-	public int getFree(int length) {
-		PooledLinkedList<float[]> list = lists.get(length);
-		return list == null ? 0 : size(list);
+	@Override
+	protected int length(float[] array) {
+		return array.length;
 	}
 
-	private int size(PooledLinkedList list) {
-		int size = 0;
-		list.iter();
-		while(list.next() != null)
-			size++;
-		return size;
+	@Override
+	protected int elementBytes() {
+		return 4;
 	}
 
 }
@@ -0,0 +1,190 @@
+package net.dermetfan.gdx.utils;
+
+import com.badlogic.gdx.utils.reflect.ArrayReflection;
+
+/** An array pool for callers that keep track of the logical length themselves and only need an array that is at least as long as requested.
+ *  Arrays are kept in power-of-two size classes, so an array can be reused for any length in its class and new arrays are created with the length rounded up to the next power of two.
+ *  @param <A> the array type
+ *  @since 0.13.8 */
+public abstract class SizeClassArrayPool<A> extends AbstractArrayPool<A> {
+
+	/** @param maxEach the maximum amount of arrays in the same size class that will be pooled */
+	public SizeClassArrayPool(int maxEach) {
+		super(-1, maxEach);
+	}
+
+	/** @param minLength the minimum length of the array
+	 *  @return an array that is at least as long as the given length */
+	@Override
+	public A obtain(int minLength) {
+		return super.obtain(minLength);
+	}
+
+	/** @return a pooled array that is at least as long as the given length, or null if there is none */
+	@Override
+	protected A find(int minLength) {
+		A array = pop(freeBucket(minLength), minLength); // a shorter array of the class below may be long enough
+		return array != null ? array : pop(obtainBucket(minLength), minLength);
+	}
+
+	/** @return the size class that holds arrays from {@code 2^(class - 1)} (inclusive) to {@code 2^class} (exclusive) long, 0 for empty arrays */
+	@Override
+	protected int freeBucket(int length) {
+		return 32 - Integer.numberOfLeadingZeros(length);
+	}
+
+	/** @return the smallest size class in which every array is at least the given length */
+	@Override
+	protected int obtainBucket(int length) {
+		return length <= 1 ? length : 33 - Integer.numberOfLeadingZeros(length - 1);
+	}
+
+	/** @return the given length rounded up to the next power of two */
+	@Override
+	protected int newLength(int length) {
+		return length <= 1 || length > 1 << 30 ? length : Integer.highestOneBit(length - 1) << 1;
+	}
+
+	/** @return a SizeClassArrayPool of float arrays */
+	public static SizeClassArrayPool<float[]> floats(int maxEach) {
+		return new SizeClassArrayPool<float[]>(maxEach) {
+			@Override
+			protected float[] newArray(int length) {
+				return new float[length];
+			}
+
+			@Override
+			protected int length(float[] array) {
+				return array.length;
+			}
+
+			@Override
+			protected int elementBytes() {
+				return 4;
+			}
+		};
+	}
+
+	/** @return a SizeClassArrayPool of int arrays */
+	public static SizeClassArrayPool<int[]> ints(int maxEach) {
+		return new SizeClassArrayPool<int[]>(maxEach) {
+			@Override
+			protected int[] newArray(int length) {
+				return new int[length];
+			}
+
+			@Override
+			protected int length(int[] array) {
+				return array.length;
+			}
+
+			@Override
+			protected int elementBytes() {
+				return 4;
+			}
+		};
+	}
+
+	/** @return a SizeClassArrayPool of short arrays */
+	public static SizeClassArrayPool<short[]> shorts(int maxEach) {
+		return new SizeClassArrayPool<short[]>(maxEach) {
+			@Override
+			protected short[] newArray(int length) {
+				return new short[length];
+			}
+
+			@Override
+			protected int length(short[] array) {
+				return array.length;
+			}
+
+			@Override
+			protected int elementBytes() {
+				return 2;
+			}
+		};
+	}
+
+	/** @return a SizeClassArrayPool of byte arrays */
+	public static SizeClassArrayPool<byte[]> bytes(int maxEach) {
+		return new SizeClassArrayPool<byte[]>(maxEach) {
+			@Override
+			protected byte[] newArray(int length) {
+				return new byte[length];
+			}
+
+			@Override
+			protected int length(byte[] array) {
+				return array.length;
+			}
+
+			@Override
+			protected int elementBytes() {
+				return 1;
+			}
+		};
+	}
+
+	/** @return a SizeClassArrayPool of long arrays */
+	public static SizeClassArrayPool<long[]> longs(int maxEach) {
+		return new SizeClassArrayPool<long[]>(maxEach) {
+			@Override
+			protected long[] newArray(int length) {
+				return new long[length];
+			}
+
+			@Override
+			protected int length(long[] array) {
+				return array.length;
+			}
+
+			@Override
+			protected int elementBytes() {
+				return 8;
+			}
+		};
+	}
+
+	/** @return a SizeClassArrayPool of double arrays */
+	public static SizeClassArrayPool<double[]> doubles(int maxEach) {
+		return new SizeClassArrayPool<double[]>(maxEach) {
+			@Override
+			protected double[] newArray(int length) {
+				return new double[length];
+			}
+
+			@Override
+			protected int length(double[] array) {
+				return array.length;
+			}
+
+			@Override
+			protected int elementBytes() {
+				return 8;
+			}
+		};
+	}
+
+	/** @param type the component type, creates arrays using reflection like {@link ReflectionArrayPool}
+	 *  @return a SizeClassArrayPool of arrays of the given type */
+	public static <T> SizeClassArrayPool<T[]> of(final Class<T> type, int maxEach) {
+		return new SizeClassArrayPool<T[]>(maxEach) {
+			@Override
+			@SuppressWarnings("unchecked")
+			protected T[] newArray(int length) {
+				return (T[]) ArrayReflection.newInstance(type, length);
+			}
+
+			@Override
+			protected int length(T[] array) {
+				return array.length;
+			}
+
+			@Override
+			protected int elementBytes() {
+				return 4;
+			}
+		};
+	}
+
+}
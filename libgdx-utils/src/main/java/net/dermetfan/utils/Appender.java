@@ -81,9 +81,15 @@ public class Appender {
 		return appendixAt(time, appendices, durations);
 	}
 
+	/** @return the value of {@link #appendices} at {@link #index}
+	 *  @since 0.13.8 */
+	public CharSequence getAppendix() {
+		return appendices[MathUtils.clamp(index, 0, appendices.length - 1)];
+	}
+
 	/** @return a {@code CharSequence} representing the given {@code seq} with the value of {@link #appendices} at {@link #index} appended */
 	public CharSequence append(CharSequence seq) {
-		return append(seq, appendices[MathUtils.clamp(index, 0, appendices.length - 1)]);
+		return append(seq, getAppendix());
 	}
 
 	/** @return a {@code CharSequence} representing the given {@code seq} with the {@link #appendixAt(float) appendix at} {@link #time} appended */
@@ -0,0 +1,191 @@
+package net.dermetfan.utils;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/** A read-only view of some elements of an array, for example every second one. Unlike {@link ArrayUtils#select(Object[], int, int) select}, the elements are not copied but read from the array on access.
+ *  The view maps its indices to increasing indices of the array and reflects changes to the array. The items may be null if the view is only used for its {@link #index(int) indices}, for example by a {@link FloatCursor}.
+ *  @param <T> the type of the elements
+ *  @since 0.13.8 */
+public abstract class IndexView<T> implements Iterable<T> {
+
+	/** the array to read from */
+	protected T[] items;
+
+	/** the number of elements in this view */
+	protected int size;
+
+	/** @param i the index in this view, not checked
+	 *  @return the index of the element in the array */
+	public abstract int index(int i);
+
+	/** @return the element at the given index of this view */
+	public T get(int i) {
+		checkIndex(i);
+		return items[index(i)];
+	}
+
+	/** @throws IndexOutOfBoundsException if the given index is not in this view */
+	protected void checkIndex(int i) {
+		if(i < 0 || i >= size)
+			throw new IndexOutOfBoundsException("index can't be < 0 or >= size: " + i + ", " + size);
+	}
+
+	/** @throws IllegalArgumentException if the last index of this view is not in an array of the given length */
+	protected void checkLength(int length) {
+		if(size > 0 && index(size - 1) >= length)
+			throw new IllegalArgumentException("the view needs an array of at least length " + (index(size - 1) + 1) + ": " + length);
+	}
+
+	@Override
+	public Iterator<T> iterator() {
+		return new Iterator<T>() {
+			private int next;
+
+			@Override
+			public boolean hasNext() {
+				return next < size;
+			}
+
+			@Override
+			public T next() {
+				if(next >= size)
+					throw new NoSuchElementException();
+				return items[index(next++)];
+			}
+		};
+	}
+
+	// getters and setters
+
+	/** @return the {@link #items} */
+	public T[] getItems() {
+		return items;
+	}
+
+	/** @return the {@link #size} */
+	public int size() {
+		return size;
+	}
+
+	/** reads a float array through the indices of an {@link IndexView} without boxing */
+	public static class FloatCursor {
+
+		/** the array to read from */
+		private float[] items;
+
+		/** the view which indices to use */
+		private IndexView<?> indices;
+
+		/** the index in the view of the element returned by {@link #next()} */
+		private int next;
+
+		public FloatCursor() {}
+
+		/** @see #set(float[], IndexView) */
+		public FloatCursor(float[] items, IndexView<?> indices) {
+			set(items, indices);
+		}
+
+		/** @param items the array to read from
+		 *  @param indices the view which indices to use, changes to it are reflected
+		 *  @return this cursor at its first element */
+		public FloatCursor set(float[] items, IndexView<?> indices) {
+			indices.checkLength(items.length);
+			this.items = items;
+			this.indices = indices;
+			next = 0;
+			return this;
+		}
+
+		/** @return the element at the given index of the view */
+		public float get(int i) {
+			indices.checkIndex(i);
+			return items[indices.index(i)];
+		}
+
+		/** @return if {@link #next()} can be called */
+		public boolean hasNext() {
+			return next < indices.size;
+		}
+
+		/** @return the next element */
+		public float next() {
+			if(next >= indices.size)
+				throw new NoSuchElementException();
+			return items[indices.index(next++)];
+		}
+
+		/** goes back to the first element */
+		public void reset() {
+			next = 0;
+		}
+
+		/** @return the number of elements */
+		public int size() {
+			return indices.size;
+		}
+
+	}
+
+	/** reads an int array through the indices of an {@link IndexView} without boxing */
+	public static class IntCursor {
+
+		/** the array to read from */
+		private int[] items;
+
+		/** the view which indices to use */
+		private IndexView<?> indices;
+
+		/** the index in the view of the element returned by {@link #next()} */
+		private int next;
+
+		public IntCursor() {}
+
+		/** @see #set(int[], IndexView) */
+		public IntCursor(int[] items, IndexView<?> indices) {
+			set(items, indices);
+		}
+
+		/** @param items the array to read from
+		 *  @param indices the view which indices to use, changes to it are reflected
+		 *  @return this cursor at its first element */
+		public IntCursor set(int[] items, IndexView<?> indices) {
+			indices.checkLength(items.length);
+			this.items = items;
+			this.indices = indices;
+			next = 0;
+			return this;
+		}
+
+		/** @return the element at the given index of the view */
+		public int get(int i) {
+			indices.checkIndex(i);
+			return items[indices.index(i)];
+		}
+
+		/** @return if {@link #next()} can be called */
+		public boolean hasNext() {
+			return next < indices.size;
+		}
+
+		/** @return the next element */
+		public int next() {
+			if(next >= indices.size)
+				throw new NoSuchElementException();
+			return items[indices.index(next++)];
+		}
+
+		/** goes back to the first element */
+		public void reset() {
+			next = 0;
+		}
+
+		/** @return the number of elements */
+		public int size() {
+			return indices.size;
+		}
+
+	}
+
+}
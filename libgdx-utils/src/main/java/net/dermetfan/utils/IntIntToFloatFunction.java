@@ -0,0 +1,12 @@
+package net.dermetfan.utils;
+
+/** A {@link ToFloatFunction} of two ints, such as a coordinate, that does not need to box or wrap its arguments.
+ *  @since 0.13.8 */
+public interface IntIntToFloatFunction {
+
+	/** @param x the first argument
+	 *  @param y the second argument
+	 *  @return the return value */
+	float apply(int x, int y);
+
+}
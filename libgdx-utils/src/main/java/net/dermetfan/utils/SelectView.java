@@ -0,0 +1,64 @@
+package net.dermetfan.utils;
+
+/** a view of the elements {@link ArrayUtils#select(Object[], int, int, int, int) select} would copy, for example the x values of interleaved vertices
+ *  @param <T> the type of the elements
+ *  @since 0.13.8 */
+public class SelectView<T> extends IndexView<T> {
+
+	/** the index of the first element in the array */
+	private int first;
+
+	/** the distance between the elements in the array */
+	private int everyXth;
+
+	public SelectView() {}
+
+	/** @see #set(Object[], int, int, int, int) */
+	public SelectView(T[] items, int offset, int length, int start, int everyXth) {
+		set(items, offset, length, start, everyXth);
+	}
+
+	/** @see #set(Object[], int, int) */
+	public SelectView(T[] items, int start, int everyXth) {
+		set(items, start, everyXth);
+	}
+
+	/** @param items the array to read from
+	 *  @return this view
+	 *  @see ArrayUtils#select(Object[], int, int, int, int) */
+	public SelectView<T> set(T[] items, int offset, int length, int start, int everyXth) {
+		ArrayUtils.checkRegion(items, offset, length);
+		set(offset, length, start, everyXth);
+		this.items = items;
+		return this;
+	}
+
+	/** @see #set(Object[], int, int, int, int) */
+	public SelectView<T> set(T[] items, int start, int everyXth) {
+		return set(items, 0, items.length, start, everyXth);
+	}
+
+	/** sets the indices only, for use with a {@link FloatCursor} or {@link IntCursor}
+	 *  @param start the array index at which to start (may be negative)
+	 *  @param everyXth select every xth index, greater than 0
+	 *  @return this view without items
+	 *  @see ArrayUtils#selectCount(int, int, int, int) */
+	public SelectView<T> set(int offset, int length, int start, int everyXth) {
+		if(everyXth < 1)
+			throw new IllegalArgumentException("everyXth must be > 0: " + everyXth);
+		int first = start - 1;
+		if(first < offset)
+			first += (int) (((long) offset - first + everyXth - 1) / everyXth * everyXth);
+		this.first = first;
+		this.everyXth = everyXth;
+		size = first < offset + length ? (offset + length - 1 - first) / everyXth + 1 : 0;
+		items = null;
+		return this;
+	}
+
+	@Override
+	public int index(int i) {
+		return first + i * everyXth;
+	}
+
+}
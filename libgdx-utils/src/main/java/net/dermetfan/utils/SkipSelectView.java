@@ -0,0 +1,95 @@
+package net.dermetfan.utils;
+
+/** A view that skips, selects and goes to the next element repeatedly. When {@code skips} has no more values, {@code repeatSkips} is used repeatedly. If neither has values, all elements are selected.
+ *  The skips are summed up front, so {@link #index(int)} takes constant time and only the skips (not the elements) are held.
+ *  @param <T> the type of the elements
+ *  @since 0.13.8 */
+public class SkipSelectView<T> extends IndexView<T> {
+
+	/** the index after the element selected after each of the skips, relative to the offset */
+	private int[] skipEnds = new int[0];
+
+	/** the index after the element selected after each of the repeat skips, relative to the end of the skips */
+	private int[] repeatEnds = new int[0];
+
+	/** the number of skips and repeat skips */
+	private int skipsLength, repeatLength;
+
+	/** the index in the array at which the first skip starts */
+	private int offset;
+
+	public SkipSelectView() {}
+
+	/** @see #set(Object[], int, int, int[], int, int[], int) */
+	public SkipSelectView(T[] items, int[] skips, int[] repeatSkips) {
+		set(items, 0, items.length, skips, skips == null ? 0 : skips.length, repeatSkips, repeatSkips == null ? 0 : repeatSkips.length);
+	}
+
+	/** @param items the array to read from
+	 *  @param skips the number of elements to skip before each selection, not negative
+	 *  @param skipsLength the number of skips to use
+	 *  @param repeatSkips The skips to use repeatedly after {@code skips} has no more values. If this is null, no more elements will be selected.
+	 *  @param repeatSkipsLength the number of repeat skips to use
+	 *  @return this view */
+	public SkipSelectView<T> set(T[] items, int offset, int length, int[] skips, int skipsLength, int[] repeatSkips, int repeatSkipsLength) {
+		ArrayUtils.checkRegion(items, offset, length);
+		set(offset, length, skips, skipsLength, repeatSkips, repeatSkipsLength);
+		this.items = items;
+		return this;
+	}
+
+	/** sets the indices only, for use with a {@link FloatCursor} or {@link IntCursor}
+	 *  @return this view without items
+	 *  @see #set(Object[], int, int, int[], int, int[], int) */
+	public SkipSelectView<T> set(int offset, int length, int[] skips, int skipsLength, int[] repeatSkips, int repeatSkipsLength) {
+		if(skips == null)
+			skipsLength = 0;
+		if(repeatSkips == null)
+			repeatSkipsLength = 0;
+		if(skipsLength == 0 && repeatSkipsLength == 0) {
+			repeatSkips = new int[] {0};
+			repeatSkipsLength = 1;
+		}
+		if(skipEnds.length < skipsLength)
+			skipEnds = new int[skipsLength];
+		if(repeatEnds.length < repeatSkipsLength)
+			repeatEnds = new int[repeatSkipsLength];
+		sum(skips, skipsLength, skipEnds);
+		sum(repeatSkips, repeatSkipsLength, repeatEnds);
+		this.offset = offset;
+		this.skipsLength = skipsLength;
+		repeatLength = repeatSkipsLength;
+		items = null;
+
+		size = 0;
+		while(size < skipsLength && skipEnds[size] <= length)
+			size++;
+		if(size == skipsLength && repeatLength > 0) {
+			int rest = length - (skipsLength > 0 ? skipEnds[skipsLength - 1] : 0), period = repeatEnds[repeatLength - 1], cycles = rest / period;
+			size += cycles * repeatLength;
+			rest -= cycles * period;
+			for(int i = 0; i < repeatLength && repeatEnds[i] <= rest; i++)
+				size++;
+		}
+		return this;
+	}
+
+	/** sums up the given skips and one selection after each */
+	private static void sum(int[] skips, int length, int[] ends) {
+		for(int i = 0, end = 0; i < length; i++) {
+			if(skips[i] < 0)
+				throw new IllegalArgumentException("skips must not be negative: " + skips[i]);
+			ends[i] = end += skips[i] + 1;
+		}
+	}
+
+	@Override
+	public int index(int i) {
+		if(i < skipsLength)
+			return offset + skipEnds[i] - 1;
+		i -= skipsLength;
+		int cycles = i / repeatLength;
+		return offset + (skipsLength > 0 ? skipEnds[skipsLength - 1] : 0) + cycles * repeatEnds[repeatLength - 1] + repeatEnds[i - cycles * repeatLength] - 1;
+	}
+
+}
@@ -0,0 +1,71 @@
+package net.dermetfan.utils.math;
+
+/** Scratch space for the methods of {@link GeometryUtils} that need temporary arrays. The methods that take a context use it instead of static state, so multiple threads can use them at the same time if each has its own context.
+ *  The arrays grow as needed. A context must not be used by multiple threads at the same time.
+ *  @since 0.13.8 */
+public class GeometryContext {
+
+	/** temporary floats */
+	private float[] floats;
+
+	/** temporary ints */
+	private int[] ints = new int[0];
+
+	/** temporary longs */
+	private long[] longs = new long[0];
+
+	public GeometryContext() {
+		this(Byte.MAX_VALUE);
+	}
+
+	/** @param capacity the initial length of the temporary float array */
+	public GeometryContext(int capacity) {
+		if(capacity < 0)
+			throw new IllegalArgumentException("capacity must be >= 0: " + capacity);
+		floats = new float[capacity];
+	}
+
+	/** @param length the minimum length
+	 *  @return the temporary float array, grown to at least the given length (the contents are undefined) */
+	public float[] getFloats(int length) {
+		if(floats.length < length)
+			floats = new float[grow(floats.length, length)];
+		return floats;
+	}
+
+	/** @param length the minimum length
+	 *  @return the temporary int array, grown to at least the given length (the contents are undefined) */
+	public int[] getInts(int length) {
+		if(ints.length < length)
+			ints = new int[grow(ints.length, length)];
+		return ints;
+	}
+
+	/** @param length the minimum length
+	 *  @return the temporary long array, grown to at least the given length (the contents are undefined) */
+	public long[] getLongs(int length) {
+		if(longs.length < length)
+			longs = new long[grow(longs.length, length)];
+		return longs;
+	}
+
+	/** @return the new length of an array of the given length that must hold at least the given minimum */
+	private static int grow(int length, int min) {
+		return Math.max(min, (int) Math.min(length * 2L, Integer.MAX_VALUE - 8));
+	}
+
+	// getters and setters
+
+	/** @return the {@link #floats} */
+	public float[] getFloats() {
+		return floats;
+	}
+
+	/** @param floats the {@link #floats} to set */
+	public void setFloats(float[] floats) {
+		if(floats == null)
+			throw new IllegalArgumentException("floats cannot be null");
+		this.floats = floats;
+	}
+
+}
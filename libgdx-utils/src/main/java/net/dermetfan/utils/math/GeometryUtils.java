@@ -14,6 +14,8 @@
 
 package net.dermetfan.utils.math;
 
+import java.util.Arrays;
+
 import net.dermetfan.utils.ArrayUtils;
 
 import static net.dermetfan.utils.ArrayUtils.checkRegion;
@@ -27,17 +29,19 @@ import static net.dermetfan.utils.math.MathUtils.mirror;
  *  @since 0.5.0 */
 public class GeometryUtils {
 
-	/** temporary float array for internal usage */
-	private static float[] floats = new float[Byte.MAX_VALUE];
+	/** the scratch space of the methods that do not take a {@link GeometryContext}, which makes them unsafe to use from multiple threads */
+	private static final GeometryContext context = new GeometryContext();
 
-	/** @param floats the {@link #floats} to set */
+	/** @param floats the temporary float array of the shared {@link GeometryContext}
+	 *  @see GeometryContext#setFloats(float[]) */
 	public static void setFloats(float[] floats) {
-		GeometryUtils.floats = floats;
+		context.setFloats(floats);
 	}
 
-	/** @return the {@link #floats} */
+	/** @return the temporary float array of the shared {@link GeometryContext}, which grows as needed
+	 *  @see GeometryContext#getFloats() */
 	public static float[] getFloats() {
-		return floats;
+		return context.getFloats();
 	}
 
 	/** @param x the x of the point to test
@@ -202,7 +206,8 @@ public class GeometryUtils {
 	/** @param vertices the vertices which width to get
 	 *  @return the width of the given vertices */
 	public static float width(float[] vertices, int offset, int length) {
-		return amplitude2(filterX(vertices, offset, length, floats), 0, length / 2);
+		checkRegion(vertices, offset, length);
+		return amplitude2(vertices, offset, length, 2);
 	}
 
 	/** @see #width(float[], int, int) */
@@ -213,7 +218,8 @@ public class GeometryUtils {
 	/** @param vertices the vertices which height to get
 	 *  @return the height of the given vertices */
 	public static float height(float[] vertices, int offset, int length) {
-		return amplitude2(filterY(vertices, offset, length, floats), 0, length / 2);
+		checkRegion(vertices, offset, length);
+		return length < 2 ? Float.NaN : amplitude2(vertices, offset + 1, length - 1, 2);
 	}
 
 	/** @see #height(float[], int, int) */
@@ -224,7 +230,8 @@ public class GeometryUtils {
 	/** @param vertices the vertices which depth to get
 	 *  @return the depth of the given vertices */
 	public static float depth(float[] vertices, int offset, int length) {
-		return amplitude2(filterZ(vertices, offset, length, floats), 0, length / 3);
+		checkRegion(vertices, offset, length);
+		return length < 3 ? Float.NaN : amplitude2(vertices, offset + 2, length - 2, 3);
 	}
 
 	/** @see #depth(float[], int, int) */
@@ -232,12 +239,22 @@ public class GeometryUtils {
 		return depth(vertices, 0, vertices.length);
 	}
 
+	/** copies every stride-th item directly instead of going through {@link ArrayUtils#select(float[], int, int, int, int, float[], int)}
+	 *  @param count the number of items to copy
+	 *  @return the given destination array */
+	private static float[] copyStrided(float[] items, int offset, int count, int stride, float[] dest, int destOffset) {
+		checkRegion(dest, destOffset, count);
+		for(int i = offset, di = destOffset, end = destOffset + count; di < end; i += stride, di++)
+			dest[di] = items[i];
+		return dest;
+	}
+
 	/** @param vertices the vertices
 	 *  @param dest the array to fill
 	 *  @return the x values of the given vertices */
 	public static float[] filterX(float[] vertices, int offset, int length, float[] dest, int destOffset) {
 		checkRegion(vertices, offset, length);
-		return ArrayUtils.select(vertices, offset, length, -1, 2, dest, destOffset);
+		return copyStrided(vertices, offset, (length + 1) / 2, 2, dest, destOffset);
 	}
 
 	/** @see #filterX(float[], int, int, float[], int) */
@@ -265,7 +282,7 @@ public class GeometryUtils {
 	 *  @return the y values of the given vertices */
 	public static float[] filterY(float[] vertices, int offset, int length, float[] dest, int destOffset) {
 		checkRegion(vertices, offset, length);
-		return ArrayUtils.select(vertices, offset, length, 0, 2, dest, destOffset);
+		return copyStrided(vertices, offset + 1, length / 2, 2, dest, destOffset);
 	}
 
 	/** @see #filterY(float[], int, int, float[], int) */
@@ -346,7 +363,8 @@ public class GeometryUtils {
 
 	/** @return the min x value in the given vertices */
 	public static float minX(float[] vertices, int offset, int length) {
-		return min(filterX(vertices, offset, length, floats), 0, length / 2);
+		checkRegion(vertices, offset, length);
+		return min(vertices, offset, length, 2);
 	}
 
 	/** @see #minX(float[], int, int) */
@@ -356,7 +374,8 @@ public class GeometryUtils {
 
 	/** @return the min y value in the given vertices */
 	public static float minY(float[] vertices, int offset, int length) {
-		return min(filterY(vertices, offset, length, floats), 0, length / 2);
+		checkRegion(vertices, offset, length);
+		return length < 2 ? Float.NaN : min(vertices, offset + 1, length - 1, 2);
 	}
 
 	/** @see #minY(float[], int, int) */
@@ -366,7 +385,8 @@ public class GeometryUtils {
 
 	/** @return the max x value in the given vertices */
 	public static float maxX(float[] vertices, int offset, int length) {
-		return max(filterX(vertices, offset, length, floats), 0, length / 2);
+		checkRegion(vertices, offset, length);
+		return max(vertices, offset, length, 2);
 	}
 
 	/** @see #maxX(float[], int, int) */
@@ -376,7 +396,8 @@ public class GeometryUtils {
 
 	/** @return the max y value in the given vertices */
 	public static float maxY(float[] vertices, int offset, int length) {
-		return max(filterY(vertices, offset, length, floats), 0, length / 2);
+		checkRegion(vertices, offset, length);
+		return length < 2 ? Float.NaN : max(vertices, offset + 1, length - 1, 2);
 	}
 
 	/** @see #maxY(float[], int, int) */
@@ -404,10 +425,25 @@ public class GeometryUtils {
 	 *  @param maxY the desired maximal y coordinate
 	 *  @return the given and scaled vertices for chaining */
 	public static float[] scale(float[] vertices, int offset, int length, float minX, float minY, float maxX, float maxY) {
-		divX(vertices, offset, length, width(vertices, offset, length) / (maxX - minX));
-		addX(vertices, offset, length, minX - minX(vertices, offset, length));
-		divY(vertices, offset, length, height(vertices, offset, length) / (maxY - minY));
-		addY(vertices, offset, length, minY - minY(vertices, offset, length));
+		checkRegion(vertices, offset, length);
+		float oldMinX = Float.POSITIVE_INFINITY, oldMinY = Float.POSITIVE_INFINITY, oldMaxX = Float.NEGATIVE_INFINITY, oldMaxY = Float.NEGATIVE_INFINITY;
+		for(int i = offset + 1; i < offset + length; i += 2) {
+			float x = vertices[i - 1], y = vertices[i];
+			if(x < oldMinX)
+				oldMinX = x;
+			if(x > oldMaxX)
+				oldMaxX = x;
+			if(y < oldMinY)
+				oldMinY = y;
+			if(y > oldMaxY)
+				oldMaxY = y;
+		}
+		float divisorX = (oldMaxX - oldMinX) / (maxX - minX), divisorY = (oldMaxY - oldMinY) / (maxY - minY);
+		float addendX = minX - (divisorX > 0 ? oldMinX : oldMaxX) / divisorX, addendY = minY - (divisorY > 0 ? oldMinY : oldMaxY) / divisorY;
+		for(int i = offset + 1; i < offset + length; i += 2) {
+			vertices[i - 1] = vertices[i - 1] / divisorX + addendX;
+			vertices[i] = vertices[i] / divisorY + addendY;
+		}
 		return vertices;
 	}
 
@@ -510,54 +546,39 @@ public class GeometryUtils {
 		sortPoints(vertices, 0, vertices.length, byY);
 	}
 
-	/** Sorts the given points in ascending order by their x (or, if byY is true, y) coordinate.
+	/** Sorts the given points in ascending order by their x (or, if byY is true, y) coordinate in O(n log n). Points with equal coordinates keep their order.
 	 *  @param vertices the points to sort
 	 *  @param byY whether the points shall by sorted by their y rather than their x coordinate
 	 *  @since 0.11.0 */
 	public static void sortPoints(float[] vertices, int offset, int length, boolean byY) {
+		sortPoints(vertices, offset, length, byY, context);
+	}
+
+	/** @param context the scratch space to use
+	 *  @see #sortPoints(float[], int, int, boolean)
+	 *  @since 0.13.8 */
+	public static void sortPoints(float[] vertices, int offset, int length, boolean byY, GeometryContext context) {
 		ArrayUtils.checkRegion(vertices, offset, length);
-		int y = byY ? 1 : 0;
-
-		// find point with smallest x coordinate
-		int smallest = offset;
-		for(int i = offset; i < offset + length; i += 2)
-			if(vertices[i + y] < vertices[smallest + y])
-				smallest = i;
-
-		// find point with greatest x coordinate
-		int greatest = offset;
-		for(int i = offset; i < offset + length; i += 2)
-			if(vertices[i + y] > vertices[greatest + y])
-				greatest = i;
-
-		// find each next point
-		floats[0] = vertices[smallest];
-		floats[1] = vertices[smallest + 1];
-		for(int i = smallest, fi = 2; fi < length; fi += 2) {
-			int next = greatest;
-			float coord = vertices[i + y];
-			for(int ii = offset; ii < offset + length; ii += 2) {
-				if(ii == i)
-					continue;
-				float coord2 = vertices[ii + y];
-				if(coord2 < coord)
-					continue;
-				if(coord2 - coord <= vertices[next + y] - coord) {
-					int coord2InFloats = closePoints(coord2, coord2, byY ? Float.POSITIVE_INFINITY : 0, byY ? 0 : Float.POSITIVE_INFINITY, floats, 0, fi, null, 0);
-					if(coord2InFloats > 0) {
-						int coord2InVertices = closePoints(coord2, coord2, byY ? Float.POSITIVE_INFINITY : 0, byY ? 0 : Float.POSITIVE_INFINITY, vertices, offset, length, null, 0);
-						if(coord2InFloats >= coord2InVertices)
-							continue;
-					}
-					next = ii;
-				}
-			}
-			floats[fi] = vertices[next];
-			floats[fi + 1] = vertices[next + 1];
-			i = next;
+		int points = length / 2;
+		long[] keys = context.getLongs(points);
+		for(int i = 0; i < points; i++)
+			keys[i] = sortKey(vertices[offset + i * 2 + (byY ? 1 : 0)], i);
+		Arrays.sort(keys, 0, points);
+		float[] floats = context.getFloats(points * 2);
+		System.arraycopy(vertices, offset, floats, 0, points * 2);
+		for(int i = 0; i < points; i++) {
+			int point = (int) keys[i] * 2;
+			vertices[offset + i * 2] = floats[point];
+			vertices[offset + i * 2 + 1] = floats[point + 1];
 		}
+	}
 
-		System.arraycopy(floats, 0, vertices, offset, length);
+	/** @param coord the coordinate to sort by
+	 *  @param index the index that breaks ties, making sorts of the keys stable
+	 *  @return a key that orders like the coordinate and then the index (-0 is considered equal to 0) */
+	private static long sortKey(float coord, int index) {
+		int bits = Float.floatToIntBits(coord + 0f);
+		return (long) (bits ^ bits >> 31 & Integer.MAX_VALUE) << 32 | index;
 	}
 
 	/** @see #arrangeConvexPolygon(float[], int, int, boolean) */
@@ -568,16 +589,24 @@ public class GeometryUtils {
 	/** @param vertices the vertices of the convex polygon
 	 *  @param clockwise if true, the vertices will be arranged in clockwise, otherwise counter-clockwise order */
 	public static void arrangeConvexPolygon(float[] vertices, int offset, int length, boolean clockwise) {
+		arrangeConvexPolygon(vertices, offset, length, clockwise, context);
+	}
+
+	/** @param context the scratch space to use
+	 *  @see #arrangeConvexPolygon(float[], int, int, boolean)
+	 *  @since 0.13.8 */
+	public static void arrangeConvexPolygon(float[] vertices, int offset, int length, boolean clockwise, GeometryContext context) {
 		ArrayUtils.checkRegion(vertices, offset, length);
 		if(length % 2 != 0)
 			throw new IllegalArgumentException("malformed vertices, length is odd: " + length);
 		if(length <= 4)
 			return;
-		sortPoints(vertices, offset, length, false);
-		System.arraycopy(vertices, 0, floats, 0, offset + length);
-		for(int i = offset + 2, ltI = i, gtI = offset + length - 2; i < offset + length; i += 2) {
+		sortPoints(vertices, offset, length, false, context);
+		float[] floats = context.getFloats(length);
+		System.arraycopy(vertices, offset, floats, 0, length);
+		for(int i = 2, ltI = offset + 2, gtI = offset + length - 2; i < length; i += 2) {
 			float x = floats[i], y = floats[i + 1];
-			float det = MathUtils.det(floats[offset], floats[offset + 1], floats[offset + length - 2], floats[offset + length - 1], x, y);
+			float det = MathUtils.det(floats[0], floats[1], floats[length - 2], floats[length - 1], x, y);
 			if(clockwise ? det > 0 : det < 0) {
 				vertices[ltI++] = x;
 				vertices[ltI++] = y;
@@ -589,6 +618,80 @@ public class GeometryUtils {
 		}
 	}
 
+	/** @see #convexHull(float[], int, int, float[]) */
+	public static int convexHull(float[] points, float[] output) {
+		return convexHull(points, 0, points.length, output);
+	}
+
+	/** Computes the convex hull of the given points using Andrew's monotone chain algorithm in O(n log n).
+	 *  @param points the points of which to compute the convex hull (not modified)
+	 *  @param output the array to write the vertices of the convex hull to, starting at index 0, in counter-clockwise order beginning with the point with the smallest x (and y) coordinate and without collinear points
+	 *  @return the number of floats written to the output
+	 *  @since 0.13.8 */
+	public static int convexHull(float[] points, int offset, int length, float[] output) {
+		return convexHull(points, offset, length, output, context);
+	}
+
+	/** @param context the scratch space to use
+	 *  @see #convexHull(float[], int, int, float[])
+	 *  @since 0.13.8 */
+	public static int convexHull(float[] points, int offset, int length, float[] output, GeometryContext context) {
+		ArrayUtils.checkRegion(points, offset, length);
+		if(length % 2 != 0)
+			throw new IllegalArgumentException("malformed vertices, length is odd: " + length);
+		int n = length / 2;
+		if(n < 2) {
+			ArrayUtils.checkRegion(output, 0, length);
+			System.arraycopy(points, offset, output, 0, length);
+			return length;
+		}
+
+		// sort by x and then y: the sort by x keeps the order of the sort by y for points with the same x
+		long[] keys = context.getLongs(n);
+		int[] indices = context.getInts(n * 2);
+		for(int i = 0; i < n; i++)
+			keys[i] = sortKey(points[offset + i * 2 + 1], i);
+		Arrays.sort(keys, 0, n);
+		for(int i = 0; i < n; i++)
+			indices[i] = (int) keys[i];
+		for(int i = 0; i < n; i++)
+			keys[i] = sortKey(points[offset + indices[i] * 2], i);
+		Arrays.sort(keys, 0, n);
+		for(int i = 0; i < n; i++)
+			keys[i] = indices[(int) keys[i]];
+
+		// lower hull, then upper hull
+		int hull = 0;
+		for(int i = 0; i < n; i++) {
+			int point = (int) keys[i];
+			while(hull >= 2 && turn(points, offset, indices[hull - 2], indices[hull - 1], point) <= 0)
+				hull--;
+			indices[hull++] = point;
+		}
+		for(int i = n - 2, lower = hull + 1; i >= 0; i--) {
+			int point = (int) keys[i];
+			while(hull >= lower && turn(points, offset, indices[hull - 2], indices[hull - 1], point) <= 0)
+				hull--;
+			indices[hull++] = point;
+		}
+		hull--; // the last point is the first one
+
+		ArrayUtils.checkRegion(output, 0, hull * 2);
+		for(int i = 0; i < hull; i++) {
+			output[i * 2] = points[offset + indices[i] * 2];
+			output[i * 2 + 1] = points[offset + indices[i] * 2 + 1];
+		}
+		return hull * 2;
+	}
+
+	/** @return the {@link MathUtils#det(float, float, float, float, float, float) determinant} of the points at the given point indices, positive if they make a counter-clockwise turn */
+	private static float turn(float[] points, int offset, int a, int b, int c) {
+		a = offset + a * 2;
+		b = offset + b * 2;
+		c = offset + c * 2;
+		return MathUtils.det(points[a], points[a + 1], points[b], points[b + 1], points[c], points[c + 1]);
+	}
+
 	/** @return the area contained by the given simple/non self intersecting polygon */
 	public static float polygonArea(float[] vertices, int offset, int length) {
 		ArrayUtils.checkRegion(vertices, offset, length);
@@ -0,0 +1,35 @@
+package net.dermetfan.utils.math;
+
+/** A two-dimensional grid of floats accessed by coordinate, so that each noise algorithm has a single kernel no matter how the values are stored.
+ *  Implemented by {@link HeightField} (a flat array with a stride), {@link MappedHeightField} (tiles in a file) and {@link Rows} (a {@code float[x][y]}).
+ *  @since 0.13.8 */
+interface Grid {
+
+	/** @return the value at the given coordinate */
+	float get(int x, int y);
+
+	/** @param value the value to set at the given coordinate */
+	void set(int x, int y, float value);
+
+	/** a Grid of a {@code float[x][y]} */
+	final class Rows implements Grid {
+
+		private final float[][] map;
+
+		Rows(float[][] map) {
+			this.map = map;
+		}
+
+		@Override
+		public float get(int x, int y) {
+			return map[x][y];
+		}
+
+		@Override
+		public void set(int x, int y, float value) {
+			map[x][y] = value;
+		}
+
+	}
+
+}
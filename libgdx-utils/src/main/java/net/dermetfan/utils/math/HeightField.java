@@ -0,0 +1,94 @@
+package net.dermetfan.utils.math;
+
+/** A two-dimensional grid of floats stored in a flat array, such as a height map generated by {@link Noise}.
+ *  Laid out like a {@code float[width][height]}: each x is a row of {@link #height} consecutive values, and rows are {@link #stride} apart.
+ *  @since 0.13.8 */
+public class HeightField implements Grid {
+
+	/** the array holding the values */
+	public final float[] data;
+
+	/** the index of (0, 0) in {@link #data} */
+	public final int offset;
+
+	/** the number of rows (x coordinates) */
+	public final int width;
+
+	/** the number of values in a row (y coordinates) */
+	public final int height;
+
+	/** the distance between the starts of two rows in {@link #data}, at least {@link #height} */
+	public final int stride;
+
+	/** creates a HeightField with its own tightly packed array */
+	public HeightField(int width, int height) {
+		this(new float[checkSize(width, height)], 0, width, height, height);
+	}
+
+	/** @param data the {@link #data}
+	 *  @param offset the {@link #offset}
+	 *  @param width the {@link #width}
+	 *  @param height the {@link #height}
+	 *  @param stride the {@link #stride} */
+	public HeightField(float[] data, int offset, int width, int height, int stride) {
+		if(width < 0 || height < 0)
+			throw new IllegalArgumentException("negative size: " + width + "x" + height);
+		if(stride < height)
+			throw new IllegalArgumentException("stride must be >= height: " + stride + " < " + height);
+		if(offset < 0 || width > 0 && height > 0 && offset + (long) (width - 1) * stride + height > data.length)
+			throw new IllegalArgumentException("data is too small for " + width + "x" + height + " with stride " + stride + " at offset " + offset + ": " + data.length);
+		this.data = data;
+		this.offset = offset;
+		this.width = width;
+		this.height = height;
+		this.stride = stride;
+	}
+
+	/** @return the number of floats needed to store a tightly packed HeightField of the given size */
+	private static int checkSize(int width, int height) {
+		long size = (long) width * height;
+		if(width < 0 || height < 0 || size > Integer.MAX_VALUE)
+			throw new IllegalArgumentException("invalid size: " + width + "x" + height);
+		return (int) size;
+	}
+
+	/** @return the index of the given coordinate in {@link #data} */
+	public int index(int x, int y) {
+		return offset + x * stride + y;
+	}
+
+	/** @return the value at the given coordinate */
+	@Override
+	public float get(int x, int y) {
+		return data[offset + x * stride + y];
+	}
+
+	/** @param value the value to set at the given coordinate */
+	@Override
+	public void set(int x, int y, float value) {
+		data[offset + x * stride + y] = value;
+	}
+
+	/** @param value the value to set every coordinate to
+	 *  @return this HeightField for chaining */
+	public HeightField fill(float value) {
+		for(int x = 0; x < width; x++)
+			for(int i = offset + x * stride, n = i + height; i < n; i++)
+				data[i] = value;
+		return this;
+	}
+
+	/** @param map the array to copy the values to, must be at least {@link #width} x {@link #height}
+	 *  @return the given array */
+	public float[][] copyTo(float[][] map) {
+		for(int x = 0; x < width; x++)
+			System.arraycopy(data, offset + x * stride, map[x], 0, height);
+		return map;
+	}
+
+	/** @return a new {@code float[width][height]} holding the values */
+	public float[][] toArray() {
+		return copyTo(new float[width][height]);
+	}
+
+}
@@ -0,0 +1,188 @@
+package net.dermetfan.utils.math;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/** A {@link HeightField}-like grid of floats in a memory-mapped file, for height maps larger than the heap such as {@link #diamondSquare(int, float, float, boolean, boolean, long, MappedHeightField) diamond-square} with n = 15.
+ *  The cells are stored in square tiles of {@link #tileSize} x {@link #tileSize} so that neighbouring cells on both axes are on nearby pages. The file is mapped in segments of at most 1 GiB because a buffer cannot be larger than 2 GiB.
+ *  The mapped memory is released by the garbage collector some time after the MappedHeightField is {@link #close() closed}.
+ *  <strong>Does NOT work on HTML5!</strong>
+ *  @since 0.13.8 */
+public class MappedHeightField implements Grid, Closeable {
+
+	/** the magic number at the start of the file */
+	private static final int magic = 0x48464C44; // "HFLD"
+
+	/** the version of the file format */
+	private static final int version = 1;
+
+	/** the number of bytes before the first tile, a whole page so the tiles are page aligned */
+	private static final int headerBytes = 4096;
+
+	/** the log2 of {@link #tileSize} */
+	private static final int tileShift = 6;
+
+	/** the number of cells on each axis of a tile */
+	public static final int tileSize = 1 << tileShift;
+
+	/** the number of floats in a tile */
+	private static final int tileFloats = tileSize * tileSize;
+
+	/** the log2 of the number of tiles in a segment, 1 GiB of tiles */
+	private static final int segmentShift = 30 - 2 - tileShift * 2;
+
+	/** the number of rows (x coordinates) */
+	public final int width;
+
+	/** the number of values in a row (y coordinates) */
+	public final int height;
+
+	/** the number of tiles on the y axis */
+	private final int tilesY;
+
+	private final FileChannel channel;
+
+	/** the mapped segments of tiles */
+	private final FloatBuffer[] segments;
+
+	private MappedHeightField(FileChannel channel, boolean writable, int width, int height) throws IOException {
+		this.channel = channel;
+		this.width = width;
+		this.height = height;
+		tilesY = (height + tileSize - 1) >> tileShift;
+		long tiles = (long) ((width + tileSize - 1) >> tileShift) * tilesY;
+		segments = new FloatBuffer[(int) ((tiles + (1 << segmentShift) - 1) >> segmentShift)];
+		for(int i = 0; i < segments.length; i++) {
+			long segmentTiles = Math.min(tiles - ((long) i << segmentShift), 1 << segmentShift);
+			MappedByteBuffer buffer = channel.map(writable ? MapMode.READ_WRITE : MapMode.READ_ONLY, headerBytes + ((long) i << segmentShift) * tileFloats * 4, segmentTiles * tileFloats * 4);
+			segments[i] = buffer.order(ByteOrder.LITTLE_ENDIAN).asFloatBuffer();
+		}
+	}
+
+	/** Creates a file holding a grid of the given size. An existing file is only used if it is empty, because truncating a file that an earlier MappedHeightField still maps fails on Windows and makes the old mapping crash the JVM on access on Linux.
+	 *  @param file a new or empty file, for example from {@link java.nio.file.Files#createTempFile(String, String, java.nio.file.attribute.FileAttribute[]) Files.createTempFile}
+	 *  @return a writable MappedHeightField of the file, all values are zero
+	 *  @throws FileAlreadyExistsException if the file is not empty */
+	public static MappedHeightField create(Path file, int width, int height) throws IOException {
+		if(width < 1 || height < 1)
+			throw new IllegalArgumentException("invalid size: " + width + "x" + height);
+		FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+		try {
+			if(channel.size() != 0)
+				throw new FileAlreadyExistsException(file.toString(), null, "the file is not empty, delete it or use a new file");
+			ByteBuffer header = ByteBuffer.allocate(16).order(ByteOrder.LITTLE_ENDIAN);
+			header.putInt(magic).putInt(version).putInt(width).putInt(height).flip();
+			while(header.hasRemaining())
+				channel.write(header, header.position());
+			return new MappedHeightField(channel, true, width, height);
+		} catch(IOException | RuntimeException e) {
+			channel.close();
+			throw e;
+		}
+	}
+
+	/** maps a file {@link #create(Path, int, int) created} before
+	 *  @param writable if the values may be {@link #set(int, int, float) set}
+	 *  @throws IOException if the file cannot be read or is not a height field */
+	public static MappedHeightField open(Path file, boolean writable) throws IOException {
+		FileChannel channel = writable ? FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE) : FileChannel.open(file, StandardOpenOption.READ);
+		try {
+			ByteBuffer header = ByteBuffer.allocate(16).order(ByteOrder.LITTLE_ENDIAN);
+			while(header.hasRemaining())
+				if(channel.read(header, header.position()) < 0)
+					throw new IOException("not a height field, the file is too short: " + file);
+			header.flip();
+			if(header.getInt() != magic)
+				throw new IOException("not a height field: " + file);
+			int fileVersion = header.getInt();
+			if(fileVersion != version)
+				throw new IOException("unsupported version " + fileVersion + ": " + file);
+			int width = header.getInt(), height = header.getInt();
+			if(width < 1 || height < 1)
+				throw new IOException("invalid size " + width + "x" + height + ": " + file);
+			return new MappedHeightField(channel, writable, width, height);
+		} catch(IOException | RuntimeException e) {
+			channel.close();
+			throw e;
+		}
+	}
+
+	/** @return the index of the given coordinate in the tiles */
+	private static int cell(int x, int y) {
+		return (x & tileSize - 1) << tileShift | y & tileSize - 1;
+	}
+
+	/** @return the index of the tile of the given coordinate */
+	private int tile(int x, int y) {
+		return (x >> tileShift) * tilesY + (y >> tileShift);
+	}
+
+	/** @return the value at the given coordinate */
+	@Override
+	public float get(int x, int y) {
+		int tile = tile(x, y);
+		return segments[tile >>> segmentShift].get((tile & (1 << segmentShift) - 1) * tileFloats + cell(x, y));
+	}
+
+	/** @param value the value to set at the given coordinate */
+	@Override
+	public void set(int x, int y, float value) {
+		int tile = tile(x, y);
+		segments[tile >>> segmentShift].put((tile & (1 << segmentShift) - 1) * tileFloats + cell(x, y), value);
+	}
+
+	/** copies a region into the given HeightField
+	 *  @param x the x coordinate of the region
+	 *  @param y the y coordinate of the region
+	 *  @param field the HeightField to copy to, its size is the size of the region
+	 *  @return the given HeightField */
+	public HeightField copyTo(int x, int y, HeightField field) {
+		if(x < 0 || y < 0 || x + field.width > width || y + field.height > height)
+			throw new IllegalArgumentException("the region " + field.width + "x" + field.height + " at " + x + ", " + y + " is out of bounds: " + width + "x" + height);
+		float[] data = field.data;
+		for(int fx = 0; fx < field.width; fx++)
+			for(int i = field.offset + fx * field.stride, fy = 0; fy < field.height; i++, fy++)
+				data[i] = get(x + fx, y + fy);
+		return field;
+	}
+
+	/** writes changes to the disk */
+	public void force() throws IOException {
+		channel.force(false);
+	}
+
+	/** closes the file, the MappedHeightField must not be used anymore */
+	@Override
+	public void close() throws IOException {
+		channel.close();
+	}
+
+	/** generates a height map into the given MappedHeightField using the diamond-square algorithm, exactly like {@link ParallelNoise#diamondSquare(int, float, float, boolean, boolean, long, HeightField, java.util.concurrent.ForkJoinPool) ParallelNoise} without a pool
+	 *  @param n level of detail
+	 *  @param smoothness the smoothness of the transitions
+	 *  @param range the range used for random values
+	 *  @param wrapX if the map should wrap on the x axis, the last row will equal the first
+	 *  @param wrapY if the map should wrap on the y axis, the last column will equal the first
+	 *  @param seed the seed of the random values
+	 *  @param field the MappedHeightField to write to, its width and height must be {@link Noise#size(int, int) sizes} for {@code n}
+	 *  @return the given MappedHeightField */
+	public static MappedHeightField diamondSquare(int n, float smoothness, float range, boolean wrapX, boolean wrapY, long seed, MappedHeightField field) {
+		if(n < 0)
+			throw new IllegalArgumentException("n must be >= 0: " + n);
+		int power = 1 << n;
+		if((field.width - 1) % power != 0 || (field.height - 1) % power != 0)
+			throw new IllegalArgumentException("the size of the MappedHeightField must be scale * 2^n + 1 on both axes: " + field.width + "x" + field.height + ", n = " + n);
+		ParallelNoise.diamondSquare(n, smoothness, range, wrapX, wrapY, seed, null, field, field.width, field.height, null);
+		return field;
+	}
+
+}
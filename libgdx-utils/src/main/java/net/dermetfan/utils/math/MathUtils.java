@@ -372,7 +372,28 @@ public class MathUtils {
 	 * @return the peak-to-peak amplitude of the given array
 	 */
 	public static float amplitude2(float[] items, int offset, int length) {
-		return max(items, offset, length) - min(items, offset, length);
+		checkRegion(items, offset, length);
+		return amplitude2(items, offset, length, 1);
+	}
+
+	/**
+	 * finds the smallest and largest element in one pass instead of two, without checking the region
+	 *
+	 * @param stride the distance between the elements to inspect
+	 * @return the peak-to-peak amplitude of every stride-th element in the given region, {@code NaN} if the region is empty
+	 */
+	static float amplitude2(float[] items, int offset, int length, int stride) {
+		if(length <= 0)
+			return Float.NaN;
+		float min = Float.POSITIVE_INFINITY, max = Float.NEGATIVE_INFINITY;
+		for(int i = offset, end = offset + length; i < end; i += stride) {
+			float f = items[i];
+			if(f < min)
+				min = f;
+			if(f > max)
+				max = f;
+		}
+		return max - min;
 	}
 
 	/**
@@ -405,6 +426,29 @@ public class MathUtils {
 		return max(items, 0, items.length);
 	}
 
+	/**
+	 * scans two elements per iteration in independent lanes, without checking the region
+	 *
+	 * @param stride the distance between the elements to inspect
+	 * @return the largest of every stride-th element in the given region, {@code NaN} if the region is empty
+	 */
+	static float max(float[] items, int offset, int length, int stride) {
+		if(length <= 0)
+			return Float.NaN;
+		float max0 = Float.NEGATIVE_INFINITY, max1 = Float.NEGATIVE_INFINITY;
+		int i = offset, end = offset + length;
+		for(; i + stride < end; i += stride * 2) {
+			float f0 = items[i], f1 = items[i + stride];
+			if(f0 > max0)
+				max0 = f0;
+			if(f1 > max1)
+				max1 = f1;
+		}
+		if(i < end && items[i] > max0)
+			max0 = items[i];
+		return max1 > max0 ? max1 : max0;
+	}
+
 	/**
 	 * @return the smallest element of the given array
 	 */
@@ -428,6 +472,29 @@ public class MathUtils {
 		return min(items, 0, items.length);
 	}
 
+	/**
+	 * scans two elements per iteration in independent lanes, without checking the region
+	 *
+	 * @param stride the distance between the elements to inspect
+	 * @return the smallest of every stride-th element in the given region, {@code NaN} if the region is empty
+	 */
+	static float min(float[] items, int offset, int length, int stride) {
+		if(length <= 0)
+			return Float.NaN;
+		float min0 = Float.POSITIVE_INFINITY, min1 = Float.POSITIVE_INFINITY;
+		int i = offset, end = offset + length;
+		for(; i + stride < end; i += stride * 2) {
+			float f0 = items[i], f1 = items[i + stride];
+			if(f0 < min0)
+				min0 = f0;
+			if(f1 < min1)
+				min1 = f1;
+		}
+		if(i < end && items[i] < min0)
+			min0 = items[i];
+		return min1 < min0 ? min1 : min0;
+	}
+
 	/**
 	 * @param value   the desired value
 	 * @param items   the values to inspect
@@ -484,14 +551,19 @@ public class MathUtils {
 	 * @return the scaled array
 	 */
 	public static float[] scale(float[] items, int offset, int length, float min, float max) {
-		float tmp = amplitude2(items, offset, length) / (max - min);
-		for(int i = offset; i < offset + length; i++)
-			items[i] /= tmp;
-
-		tmp = min - min(items, offset, length);
+		checkRegion(items, offset, length);
+		float oldMin = Float.POSITIVE_INFINITY, oldMax = Float.NEGATIVE_INFINITY;
+		for(int i = offset; i < offset + length; i++) {
+			float f = items[i];
+			if(f < oldMin)
+				oldMin = f;
+			if(f > oldMax)
+				oldMax = f;
+		}
+		float divisor = (oldMax - oldMin) / (max - min);
+		float addend = min - (divisor > 0 ? oldMin : oldMax) / divisor; // the old extreme that becomes the min after dividing, so the divided items need not be searched again
 		for(int i = offset; i < offset + length; i++)
-			items[i] += tmp;
-
+			items[i] = items[i] / divisor + addend;
 		return items;
 	}
 
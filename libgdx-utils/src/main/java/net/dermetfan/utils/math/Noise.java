@@ -17,14 +17,13 @@ package net.dermetfan.utils.math;
 import java.util.Random;
 
 import com.badlogic.gdx.math.Vector2;
-import net.dermetfan.utils.ArrayUtils;
+import net.dermetfan.utils.IntIntToFloatFunction;
 import net.dermetfan.utils.ToFloatFunction;
 
-import static net.dermetfan.utils.ArrayUtils.getRepeated;
-
 /** Provides static methods for continuous noise using a midpoint-displacement algorithm.
  *  This can fill in a 2D float array with noise that changes gradually, rather than simply
  *  the "TV static" that using all random values would produce.
+ *  All static methods share one {@link Random}, use a {@link NoiseGenerator} per thread to generate noise concurrently.
  *  @author dermetfan */
 public final class Noise {
 	private Noise(){
@@ -39,15 +38,21 @@ public final class Noise {
 	/** the {@link Random} used to generate pseudo-random values */
 	private static Random random = new Random();
 
+	/** the NoiseGenerator the static methods delegate to, using {@link #random} to generate the same values as before NoiseGenerator existed */
+	private static final NoiseGenerator generator = new NoiseGenerator(0) {
+		@Override
+		protected float nextFloat() {
+			return random.nextFloat();
+		}
+	};
+
 	/** randomizes a given float array using the midpoint-displacement algorithm
 	 *  @param values the float array to randomize
 	 *  @param range the range used for random values
 	 *  @param smoothness the smoothness of the transitions
 	 *  @return the randomized float array */
 	public static float[] midpointDisplacement(float[] values, float range, float smoothness) {
-		for(int i = 0; i < values.length; i++, range /= smoothness)
-			values[i] = (getRepeated(values, i - 1) + getRepeated(values, i + 1)) / 2 + random(-range, range);
-		return values;
+		return generator.midpointDisplacement(values, range, smoothness);
 	}
 
 	/** @see #midpointDisplacement(int, float, float, boolean, net.dermetfan.utils.ToFloatFunction, int, int) */
@@ -81,34 +86,37 @@ public final class Noise {
 	 *  @param scaleY scale of the y axis
 	 *  @return a height map generated using the midpoint-displacement algorithm */
 	private static float[][] midpointDisplacement(int n, float smoothness, float range, boolean initializeRandomly, ToFloatFunction<Vector2> init, int scaleX, int scaleY) {
-		if(n < 0)
-			throw new IllegalArgumentException("n must be >= 0: " + n);
-		range /= 2; // divide range by two to avoid doing it later for random(-range, range) calls
+		return generator.midpointDisplacement(n, smoothness, range, initializeRandomly ? null : init(init), scaleX, scaleY);
+	}
 
-		int x, y, power = 1 << n, width = scaleX * power + 1, height = scaleY * power + 1, step;
-		float[][] map = new float[width][height];
-		boolean sy, sx;
+	/** @see NoiseGenerator#midpointDisplacement(int, float, float, HeightField)
+	 *  @since 0.13.8 */
+	public static HeightField midpointDisplacement(int n, float smoothness, float range, HeightField field) {
+		return generator.midpointDisplacement(n, smoothness, range, field);
+	}
 
-		Vector2 coord = new Vector2();
+	/** @see NoiseGenerator#midpointDisplacement(int, float, float, float, HeightField)
+	 *  @since 0.13.8 */
+	public static HeightField midpointDisplacement(int n, float smoothness, float range, float init, HeightField field) {
+		return generator.midpointDisplacement(n, smoothness, range, init, field);
+	}
 
-		for(x = 0; x < width; x += power)
-			for(y = 0; y < height; y += power)
-				map[x][y] = initializeRandomly ? random(-range, range) : init.apply(coord.set((float) x, (float) y));
-
-		for(step = power / 2; step > 0; step /= 2, range /= smoothness) {
-			sx = false;
-			for(x = 0; x < width; x += step, sx = !sx) {
-				sy = false;
-				for(y = 0; y < height; y += step, sy = !sy)
-					if(sx && sy)
-						map[x][y] = (map[x - step][y - step] + map[x + step][y - step] + map[x - step][y + step] + map[x + step][y + step]) / 4 + random(-range, range);
-					else if(sx)
-						map[x][y] = (map[x - step][y] + map[x + step][y]) / 2 + random(-range, range);
-					else if(sy)
-						map[x][y] = (map[x][y - step] + map[x][y + step]) / 2 + random(-range, range);
-			}
-		}
-		return map;
+	/** @see NoiseGenerator#midpointDisplacement(int, float, float, ToFloatFunction, HeightField)
+	 *  @since 0.13.8 */
+	public static HeightField midpointDisplacement(int n, float smoothness, float range, ToFloatFunction<Vector2> init, HeightField field) {
+		return generator.midpointDisplacement(n, smoothness, range, init, field);
+	}
+
+	/** @see NoiseGenerator#midpointDisplacement(int, float, float, IntIntToFloatFunction, HeightField)
+	 *  @since 0.13.8 */
+	public static HeightField midpointDisplacement(int n, float smoothness, float range, IntIntToFloatFunction init, HeightField field) {
+		return generator.midpointDisplacement(n, smoothness, range, init, field);
+	}
+
+	/** @see NoiseGenerator#midpointDisplacement(int, float, float, HeightField, HeightField)
+	 *  @since 0.13.8 */
+	public static HeightField midpointDisplacement(int n, float smoothness, float range, HeightField source, HeightField field) {
+		return generator.midpointDisplacement(n, smoothness, range, source, field);
 	}
 
 	/** @see #diamondSquare(int, float, float, boolean, boolean, boolean, net.dermetfan.utils.ToFloatFunction, int, int) */
@@ -144,40 +152,208 @@ public final class Noise {
 	 *  @param scaleY scale of the y axis
 	 *  @return a height map generated using the diamond-square algorithm */
 	private static float[][] diamondSquare(int n, float smoothness, float range, boolean wrapX, boolean wrapY, boolean initializeRandomly, ToFloatFunction<Vector2> init, int scaleX, int scaleY) {
+		return generator.diamondSquare(n, smoothness, range, wrapX, wrapY, initializeRandomly ? null : init(init), scaleX, scaleY);
+	}
+
+	/** @see NoiseGenerator#diamondSquare(int, float, float, boolean, boolean, HeightField)
+	 *  @since 0.13.8 */
+	public static HeightField diamondSquare(int n, float smoothness, float range, boolean wrapX, boolean wrapY, HeightField field) {
+		return generator.diamondSquare(n, smoothness, range, wrapX, wrapY, field);
+	}
+
+	/** @see NoiseGenerator#diamondSquare(int, float, float, boolean, boolean, float, HeightField)
+	 *  @since 0.13.8 */
+	public static HeightField diamondSquare(int n, float smoothness, float range, boolean wrapX, boolean wrapY, float init, HeightField field) {
+		return generator.diamondSquare(n, smoothness, range, wrapX, wrapY, init, field);
+	}
+
+	/** @see NoiseGenerator#diamondSquare(int, float, float, boolean, boolean, ToFloatFunction, HeightField)
+	 *  @since 0.13.8 */
+	public static HeightField diamondSquare(int n, float smoothness, float range, boolean wrapX, boolean wrapY, ToFloatFunction<Vector2> init, HeightField field) {
+		return generator.diamondSquare(n, smoothness, range, wrapX, wrapY, init, field);
+	}
+
+	/** @see NoiseGenerator#diamondSquare(int, float, float, boolean, boolean, IntIntToFloatFunction, HeightField)
+	 *  @since 0.13.8 */
+	public static HeightField diamondSquare(int n, float smoothness, float range, boolean wrapX, boolean wrapY, IntIntToFloatFunction init, HeightField field) {
+		return generator.diamondSquare(n, smoothness, range, wrapX, wrapY, init, field);
+	}
+
+	/** @see NoiseGenerator#diamondSquare(int, float, float, boolean, boolean, HeightField, HeightField)
+	 *  @since 0.13.8 */
+	public static HeightField diamondSquare(int n, float smoothness, float range, boolean wrapX, boolean wrapY, HeightField source, HeightField field) {
+		return generator.diamondSquare(n, smoothness, range, wrapX, wrapY, source, field);
+	}
+
+	/** Generates one chunk of an infinite height map using the diamond-square algorithm. Chunk (cx, cy) covers the global cells from {@code (cx * 2^n, cy * 2^n)} to {@code ((cx + 1) * 2^n, (cy + 1) * 2^n)},
+	 *  so neighbouring chunks share their border cells. The borders are generated by one-dimensional midpoint displacement from random values of their global coordinates ({@link #hash(long, int, long, long)}),
+	 *  so they are exactly the same in both chunks, no matter which chunks were generated before. Only the interior depends on the chunk.
+	 *  @param n level of detail
+	 *  @param smoothness the smoothness of the transitions
+	 *  @param range the range used for random values
+	 *  @param seed the seed of the random values
+	 *  @param cx the x coordinate of the chunk
+	 *  @param cy the y coordinate of the chunk
+	 *  @param field the HeightField to write to, must be {@link #size(int, int) size(n, 1)} on both axes
+	 *  @return the given HeightField
+	 *  @since 0.13.8 */
+	public static HeightField diamondSquareChunk(int n, float smoothness, float range, long seed, int cx, int cy, HeightField field) {
+		int size = 1 << n;
+		if(field.width != size(n, 1) || field.height != size + 1)
+			throw new IllegalArgumentException("the size of the HeightField must be 2^n + 1 on both axes: " + field.width + "x" + field.height + ", n = " + n);
+		range /= 2; // divide range by two to avoid doing it later
+
+		int x, y, level, step;
+		long gx = (long) cx << n, gy = (long) cy << n; // the global coordinates exceed the int range for far away chunks
+		float levelRange;
+
+		// corners
+		for(x = 0; x <= size; x += size)
+			for(y = 0; y <= size; y += size)
+				field.set(x, y, -range + hash(seed, n, gx + x, gy + y) * range * 2);
+
+		// borders, each only depends on its own global coordinates
+		for(level = n - 1, levelRange = range; level >= 0; level--, levelRange /= smoothness)
+			for(step = 1 << level, x = step; x < size; x += step * 2)
+				for(y = 0; y <= size; y += size) {
+					// the border along x at y and the border along y at x = y
+					field.set(x, y, (field.get(x - step, y) + field.get(x + step, y)) / 2 - levelRange + hash(seed, level, gx + x, gy + y) * levelRange * 2);
+					field.set(y, x, (field.get(y, x - step) + field.get(y, x + step)) / 2 - levelRange + hash(seed, level, gx + y, gy + x) * levelRange * 2);
+				}
+
+		// interior
+		for(level = n - 1, levelRange = range; level >= 0; level--, levelRange /= smoothness) {
+			squareRows(field, field.height, seed, level, gx, gy, levelRange, 0, size >> level + 1);
+			diamondRows(field, field.width, field.height, seed, level, gx, gy, levelRange, false, false, true, 1, size >> level);
+		}
+
+		return field;
+	}
+
+	/** generates rows of the square step of a refinement level of the diamond-square algorithm with random values from {@link #hash(long, int, long, long)}, the kernel of {@link ParallelNoise}, {@link MappedHeightField} and {@link #diamondSquareChunk(int, float, float, long, int, int, HeightField) chunks}
+	 *  @param gx the global x coordinate of (0, 0) to hash
+	 *  @param gy the global y coordinate of (0, 0) to hash
+	 *  @param range the half range of the random values of the level
+	 *  @param from the first row, counted in rows of this step
+	 *  @param to the row after the last, counted in rows of this step */
+	static void squareRows(Grid map, int height, long seed, int level, long gx, long gy, float range, int from, int to) {
+		int step = 1 << level;
+		float range2 = range * 2;
+		for(int i = from; i < to; i++) {
+			int x = step + i * step * 2;
+			for(int y = step; y < height; y += step * 2)
+				map.set(x, y, (map.get(x - step, y - step) + map.get(x - step, y + step) + map.get(x + step, y + step) + map.get(x + step, y - step)) / 4 - range + hash(seed, level, gx + x, gy + y) * range2);
+		}
+	}
+
+	/** generates rows of the diamond step of a refinement level, averaging only the neighbours inside the map unless it wraps
+	 *  @param interior if the outermost rows and columns are left out because they were generated before, the given rows must not include them
+	 *  @see #squareRows(Grid, int, long, int, long, long, float, int, int) */
+	static void diamondRows(Grid map, int width, int height, long seed, int level, long gx, long gy, float range, boolean wrapX, boolean wrapY, boolean interior, int from, int to) {
+		int step = 1 << level, lastX = width - 1, lastY = height - 1, end = interior ? lastY : height - (wrapY ? 1 : 0);
+		float range2 = range * 2;
+		for(int i = from; i < to; i++) {
+			int x = i * step, y = step * (1 - i % 2);
+			if(interior && y == 0)
+				y = step * 2;
+			for(; y < end; y += step * 2) {
+				float sum = 0;
+				int count = 0;
+				if(x - step >= 0) {
+					sum += map.get(x - step, y);
+					count++;
+				} else if(wrapX) {
+					sum += map.get(x - step + lastX, y);
+					count++;
+				}
+				if(x + step <= lastX) {
+					sum += map.get(x + step, y);
+					count++;
+				}
+				if(y - step >= 0) {
+					sum += map.get(x, y - step);
+					count++;
+				} else if(wrapY) {
+					sum += map.get(x, y - step + lastY);
+					count++;
+				}
+				if(y + step <= lastY) {
+					sum += map.get(x, y + step);
+					count++;
+				}
+				float value = sum / count - range + hash(seed, level, gx + x, gy + y) * range2;
+				map.set(x, y, value);
+				if(wrapX && x == 0)
+					map.set(lastX, y, value);
+				if(wrapY && y == 0)
+					map.set(x, lastY, value);
+			}
+		}
+	}
+
+	/** @param n level of detail
+	 *  @param scale scale of the axis
+	 *  @return the number of values on an axis of a height map generated with the given level of detail and scale
+	 *  @since 0.13.8 */
+	public static int size(int n, int scale) {
 		if(n < 0)
 			throw new IllegalArgumentException("n must be >= 0: " + n);
-		range /= 2; // divide range by two to avoid doing it later for random(-range, range) calls
+		return scale * (1 << n) + 1;
+	}
 
-		int power = 1 << n, width = scaleX * power + 1, height = scaleY * power + 1, x, y;
-		float[][] map = new float[width][height];
-		float avg;
+	/** @throws IllegalArgumentException if the given HeightField cannot hold a height map of the given level of detail */
+	static void checkSize(int n, HeightField field) {
+		if(n < 0)
+			throw new IllegalArgumentException("n must be >= 0: " + n);
+		int power = 1 << n;
+		if(field.width < 1 || field.height < 1 || (field.width - 1) % power != 0 || (field.height - 1) % power != 0)
+			throw new IllegalArgumentException("the size of the HeightField must be scale * 2^n + 1 on both axes: " + field.width + "x" + field.height + ", n = " + n);
+	}
 
+	/** @return an init function that passes the coordinate to the given one in a reused Vector2, or null if the given one is null */
+	static IntIntToFloatFunction init(ToFloatFunction<Vector2> init) {
+		if(init == null)
+			return null;
 		Vector2 coord = new Vector2();
+		return (x, y) -> init.apply(coord.set(x, y));
+	}
 
-		// seed the grid
-		for(x = 0; x < width; x += power)
-			for(y = 0; y < height; y += power)
-				map[x][y] = initializeRandomly ? random(-range, range) : init.apply(coord.set(x, y));
-
-		for(power /= 2; power > 0; power /= 2, range /= smoothness) {
-			// square step
-			for(x = power; x < width; x += power * 2)
-				for(y = power; y < height; y += power * 2)
-					map[x][y] = (map[x - power][y - power] + map[x - power][y + power] + map[x + power][y + power] + map[x + power][y - power]) / 4 + random(-range, range);
-
-			// diamond step
-			for(x = 0; x < width - (wrapX ? 1 : 0); x += power)
-				for(y = power * (1 - x / power % 2); y < height - (wrapY ? 1 : 0); y += power * 2) {
-					map[x][y] = (avg = (map[ArrayUtils.repeat(width, x - power)][y] + map[ArrayUtils.repeat(width, x + power)][y] + map[x][ArrayUtils.repeat(height, y - power)] + map[x][ArrayUtils.repeat(height, y + power)]) / 4) + random(-range, range);
-
-					if(wrapX && x == 0)
-						map[width - 1][y] = avg;
-					if(wrapY && y == 0)
-						map[x][height - 1] = avg;
-				}
-		}
+	/** @return an init function that reads the cells of a coarse height map that is refined into the given HeightField
+	 *  @throws IllegalArgumentException if the given HeightField is not {@code 2^n} times as large as the source */
+	static IntIntToFloatFunction init(int n, HeightField source, HeightField field) {
+		if(n < 0)
+			throw new IllegalArgumentException("n must be >= 0: " + n);
+		if(source.width < 1 || source.height < 1 || field.width != ((source.width - 1) << n) + 1 || field.height != ((source.height - 1) << n) + 1)
+			throw new IllegalArgumentException("the HeightField must be (source size - 1) * 2^n + 1 on both axes: " + field.width + "x" + field.height + ", source " + source.width + "x" + source.height + ", n = " + n);
+		return (x, y) -> source.get(x >> n, y >> n);
+	}
+
+	/** A counter-based pseudo-random value: the same arguments always give the same value, so cells can be generated in any order or in parallel.
+	 *  @param seed the seed
+	 *  @param level the refinement level the value is used in
+	 *  @param x the x coordinate of the cell
+	 *  @param y the y coordinate of the cell
+	 *  @return a pseudo-random value between 0 (inclusive) and 1 (exclusive)
+	 *  @since 0.13.8 */
+	public static float hash(long seed, int level, int x, int y) {
+		return hash(seed, level, (long) x, (long) y);
+	}
+
+	/** like {@link #hash(long, int, int, int)}, which gives the same values for coordinates in the int range, for global coordinates of far away chunks
+	 *  @since 0.13.8 */
+	public static float hash(long seed, int level, long x, long y) {
+		long h = mix(seed + level * 0x9E3779B97F4A7C15L);
+		h = mix(h + (x << 32 | y & 0xFFFFFFFFL));
+		if(x != (int) x || y != (int) y)
+			h = mix(h + (x >>> 32 << 32 | y >>> 32));
+		return (h >>> 40) / (float) (1 << 24);
+	}
 
-		return map;
+	/** the finalizer of SplitMix64 */
+	private static long mix(long z) {
+		z = (z ^ z >>> 30) * 0xBF58476D1CE4E5B9L;
+		z = (z ^ z >>> 27) * 0x94D049BB133111EBL;
+		return z ^ z >>> 31;
 	}
 
 	/** @return a random value between start (inclusive) and end (exclusive) */
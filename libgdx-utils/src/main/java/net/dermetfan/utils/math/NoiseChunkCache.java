@@ -0,0 +1,122 @@
+package net.dermetfan.utils.math;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/** Generates chunks of an infinite height map using {@link Noise#diamondSquareChunk(int, float, float, long, int, int, HeightField)} and keeps the least recently used ones within a memory budget.
+ *  The returned HeightFields are shared with the cache and must not be modified.
+ *  Not thread-safe, even {@link #get(int, int)} reorders the chunks, so each thread needs its own cache or access must be synchronized.
+ *  @since 0.13.8 */
+public class NoiseChunkCache {
+
+	/** the level of detail of the chunks, they are {@code 2^n + 1} cells wide */
+	public final int n;
+
+	/** the smoothness of the transitions */
+	public final float smoothness;
+
+	/** the range used for random values */
+	public final float range;
+
+	/** the seed of the random values */
+	public final long seed;
+
+	/** the maximum number of bytes the cached chunks may take up */
+	private long maxBytes;
+
+	/** the chunks by {@link #key(int, int) key}, least recently used first */
+	private final LinkedHashMap<Long, HeightField> chunks = new LinkedHashMap<>(16, .75f, true);
+
+	/** @param n the {@link #n}
+	 *  @param smoothness the {@link #smoothness}
+	 *  @param range the {@link #range}
+	 *  @param seed the {@link #seed}
+	 *  @param maxBytes the {@link #maxBytes} */
+	public NoiseChunkCache(int n, float smoothness, float range, long seed, long maxBytes) {
+		Noise.size(n, 1); // check n
+		this.n = n;
+		this.smoothness = smoothness;
+		this.range = range;
+		this.seed = seed;
+		setMaxBytes(maxBytes);
+	}
+
+	/** @return the chunk at the given chunk coordinates, generated if it is not cached */
+	public HeightField get(int cx, int cy) {
+		Long key = key(cx, cy);
+		HeightField chunk = chunks.get(key);
+		if(chunk == null) {
+			int size = Noise.size(n, 1);
+			chunk = Noise.diamondSquareChunk(n, smoothness, range, seed, cx, cy, new HeightField(size, size));
+			chunks.put(key, chunk);
+			trim(maxBytes);
+		}
+		return chunk;
+	}
+
+	/** @return the value at the given global coordinate
+	 *  @throws IllegalArgumentException if the chunk of the coordinate is outside the int range of chunk coordinates, that is if a coordinate is not in {@code [-2^31 * 2^n, 2^31 * 2^n)} */
+	public float get(long x, long y) {
+		int size = 1 << n;
+		long cx = Math.floorDiv(x, size), cy = Math.floorDiv(y, size);
+		if(cx != (int) cx || cy != (int) cy)
+			throw new IllegalArgumentException("coordinate outside the chunk range: " + x + ", " + y);
+		return get((int) cx, (int) cy).get((int) (x - cx * size), (int) (y - cy * size));
+	}
+
+	/** @return if the chunk at the given chunk coordinates is cached */
+	public boolean contains(int cx, int cy) {
+		return chunks.containsKey(key(cx, cy));
+	}
+
+	/** removes the least recently used chunks until the cached chunks take up at most the given number of bytes */
+	public void trim(long maxBytes) {
+		Iterator<Map.Entry<Long, HeightField>> iterator = chunks.entrySet().iterator();
+		long chunkBytes = getChunkBytes();
+		for(int count = chunks.size(); count > 0 && count * chunkBytes > maxBytes; count--) {
+			iterator.next();
+			iterator.remove();
+		}
+	}
+
+	/** removes all cached chunks */
+	public void clear() {
+		chunks.clear();
+	}
+
+	/** @return the number of cached chunks */
+	public int size() {
+		return chunks.size();
+	}
+
+	/** @return the number of bytes one chunk takes up */
+	public long getChunkBytes() {
+		long size = Noise.size(n, 1);
+		return size * size * 4;
+	}
+
+	/** @return the number of bytes the cached chunks take up */
+	public long getBytes() {
+		return chunks.size() * getChunkBytes();
+	}
+
+	/** @return the {@link #maxBytes} */
+	public long getMaxBytes() {
+		return maxBytes;
+	}
+
+	/** @param maxBytes the {@link #maxBytes} to set, chunks are removed if necessary */
+	public void setMaxBytes(long maxBytes) {
+		if(maxBytes < 0)
+			throw new IllegalArgumentException("maxBytes must be >= 0: " + maxBytes);
+		this.maxBytes = maxBytes;
+		trim(maxBytes);
+	}
+
+	/** @return the key of the given chunk coordinates in {@link #chunks} */
+	private static long key(int cx, int cy) {
+		return (long) cx << 32 | cy & 0xFFFFFFFFL;
+	}
+
+}
@@ -0,0 +1,266 @@
+package net.dermetfan.utils.math;
+
+import com.badlogic.gdx.math.Vector2;
+import net.dermetfan.utils.ArrayUtils;
+import net.dermetfan.utils.IntIntToFloatFunction;
+import net.dermetfan.utils.ToFloatFunction;
+
+import static net.dermetfan.utils.ArrayUtils.getRepeated;
+
+/** Generates noise like {@link Noise} with its own seed and pseudo-random number generator (xoshiro128**).
+ *  Not thread-safe, but generators do not share any state, so each thread can use its own generator. The same seed always generates the same maps.
+ *  @since 0.13.8 */
+public class NoiseGenerator {
+
+	/** the seed the state of the pseudo-random number generator was last set from */
+	private long seed;
+
+	/** the state of the pseudo-random number generator */
+	private int s0, s1, s2, s3;
+
+	/** creates a NoiseGenerator with a random seed */
+	public NoiseGenerator() {
+		this((long) ((Math.random() - 0.5) * 4.503599627370496E15) ^ (long) ((Math.random() - 0.5) * 1.8446744073709552E19));
+	}
+
+	/** @param seed the {@link #seed} */
+	public NoiseGenerator(long seed) {
+		setSeed(seed);
+	}
+
+	/** randomizes a given float array using the midpoint-displacement algorithm
+	 *  @param values the float array to randomize
+	 *  @param range the range used for random values
+	 *  @param smoothness the smoothness of the transitions
+	 *  @return the randomized float array */
+	public float[] midpointDisplacement(float[] values, float range, float smoothness) {
+		for(int i = 0; i < values.length; i++, range /= smoothness)
+			values[i] = (getRepeated(values, i - 1) + getRepeated(values, i + 1)) / 2 + random(-range, range);
+		return values;
+	}
+
+	/** @return a new height map generated using the midpoint-displacement algorithm
+	 *  @see #midpointDisplacement(int, float, float, IntIntToFloatFunction, HeightField) */
+	public float[][] midpointDisplacement(int n, float smoothness, float range, int scaleX, int scaleY) {
+		return midpointDisplacement(n, smoothness, range, null, scaleX, scaleY);
+	}
+
+	/** generates a height map using the midpoint-displacement algorithm directly into a new {@code float[][]}, for the methods that return one
+	 *  @see #midpointDisplacement(int, float, float, IntIntToFloatFunction, HeightField) */
+	float[][] midpointDisplacement(int n, float smoothness, float range, IntIntToFloatFunction init, int scaleX, int scaleY) {
+		float[][] map = new float[Noise.size(n, scaleX)][Noise.size(n, scaleY)];
+		midpointDisplacement(n, smoothness, range, init, new Grid.Rows(map), map.length, map[0].length);
+		return map;
+	}
+
+	/** @see #midpointDisplacement(int, float, float, IntIntToFloatFunction, HeightField) */
+	public HeightField midpointDisplacement(int n, float smoothness, float range, HeightField field) {
+		return midpointDisplacement(n, smoothness, range, (IntIntToFloatFunction) null, field);
+	}
+
+	/** @param init the value to initialize every coordinate with
+	 *  @see #midpointDisplacement(int, float, float, IntIntToFloatFunction, HeightField) */
+	public HeightField midpointDisplacement(int n, float smoothness, float range, final float init, HeightField field) {
+		return midpointDisplacement(n, smoothness, range, (x, y) -> init, field);
+	}
+
+	/** @param init an Accessor that takes the coordinate to be initialized and returns the value to use for initialization, or null to use random values
+	 *  @see #midpointDisplacement(int, float, float, IntIntToFloatFunction, HeightField) */
+	public HeightField midpointDisplacement(int n, float smoothness, float range, ToFloatFunction<Vector2> init, HeightField field) {
+		return midpointDisplacement(n, smoothness, range, Noise.init(init), field);
+	}
+
+	/** refines an existing coarse height map using the midpoint-displacement algorithm, for example to upscale a hand-painted map
+	 *  @param source the coarse height map, each cell becomes a cell {@code 2^n} cells apart from its neighbours in the given HeightField
+	 *  @param field the HeightField to write to, {@code (source.width - 1) * 2^n + 1} x {@code (source.height - 1) * 2^n + 1} large
+	 *  @see #midpointDisplacement(int, float, float, IntIntToFloatFunction, HeightField) */
+	public HeightField midpointDisplacement(int n, float smoothness, float range, HeightField source, HeightField field) {
+		return midpointDisplacement(n, smoothness, range, Noise.init(n, source, field), field);
+	}
+
+	/** generates a height map using the midpoint-displacement algorithm into the given HeightField
+	 *  @param n level of detail
+	 *  @param smoothness the smoothness of the transitions
+	 *  @param range the range used for random values
+	 *  @param init takes the coordinate to be initialized and returns the value to use for initialization, or null to use random values
+	 *  @param field the HeightField to write to, its width and height must be {@link Noise#size(int, int) sizes} for {@code n}
+	 *  @return the given HeightField */
+	public HeightField midpointDisplacement(int n, float smoothness, float range, IntIntToFloatFunction init, HeightField field) {
+		Noise.checkSize(n, field);
+		field.fill(0); // cells are read before they are generated near the edges, so start from the same state as a new array
+		midpointDisplacement(n, smoothness, range, init, field, field.width, field.height);
+		return field;
+	}
+
+	/** the midpoint-displacement kernel of all height map types
+	 *  @see #midpointDisplacement(int, float, float, IntIntToFloatFunction, HeightField) */
+	private void midpointDisplacement(int n, float smoothness, float range, IntIntToFloatFunction init, Grid map, int width, int height) {
+		range /= 2; // divide range by two to avoid doing it later for random(-range, range) calls
+		int power = 1 << n;
+		initialize(map, power, width, height, range, init);
+		for(int step = power / 2; step > 0; step /= 2, range /= smoothness)
+			for(int x = 0; x < width; x += step)
+				midpointDisplacementRow(map, x, step, height, range);
+	}
+
+	/** generates row x of the refinement level of the given step using the midpoint-displacement algorithm
+	 *  @param range the half range of the random values of the level */
+	void midpointDisplacementRow(Grid map, int x, int step, int height, float range) {
+		boolean sx = x / step % 2 == 1, sy = false;
+		for(int y = 0; y < height; y += step, sy = !sy)
+			if(sx && sy)
+				map.set(x, y, (map.get(x - step, y - step) + map.get(x + step, y - step) + map.get(x - step, y + step) + map.get(x + step, y + step)) / 4 + random(-range, range));
+			else if(sx)
+				map.set(x, y, (map.get(x - step, y) + map.get(x + step, y)) / 2 + random(-range, range));
+			else if(sy)
+				map.set(x, y, (map.get(x, y - step) + map.get(x, y + step)) / 2 + random(-range, range));
+	}
+
+	/** @return a new height map generated using the diamond-square algorithm
+	 *  @see #diamondSquare(int, float, float, boolean, boolean, IntIntToFloatFunction, HeightField) */
+	public float[][] diamondSquare(int n, float smoothness, float range, boolean wrapX, boolean wrapY, int scaleX, int scaleY) {
+		return diamondSquare(n, smoothness, range, wrapX, wrapY, null, scaleX, scaleY);
+	}
+
+	/** generates a height map using the diamond-square algorithm directly into a new {@code float[][]}, for the methods that return one
+	 *  @see #diamondSquare(int, float, float, boolean, boolean, IntIntToFloatFunction, HeightField) */
+	float[][] diamondSquare(int n, float smoothness, float range, boolean wrapX, boolean wrapY, IntIntToFloatFunction init, int scaleX, int scaleY) {
+		float[][] map = new float[Noise.size(n, scaleX)][Noise.size(n, scaleY)];
+		diamondSquare(n, smoothness, range, wrapX, wrapY, init, new Grid.Rows(map), map.length, map[0].length);
+		return map;
+	}
+
+	/** @see #diamondSquare(int, float, float, boolean, boolean, IntIntToFloatFunction, HeightField) */
+	public HeightField diamondSquare(int n, float smoothness, float range, boolean wrapX, boolean wrapY, HeightField field) {
+		return diamondSquare(n, smoothness, range, wrapX, wrapY, (IntIntToFloatFunction) null, field);
+	}
+
+	/** @param init the value to initialize every coordinate with
+	 *  @see #diamondSquare(int, float, float, boolean, boolean, IntIntToFloatFunction, HeightField) */
+	public HeightField diamondSquare(int n, float smoothness, float range, boolean wrapX, boolean wrapY, final float init, HeightField field) {
+		return diamondSquare(n, smoothness, range, wrapX, wrapY, (x, y) -> init, field);
+	}
+
+	/** @param init an Accessor that takes the coordinate to be initialized and returns the value to use for initialization, or null to use random values
+	 *  @see #diamondSquare(int, float, float, boolean, boolean, IntIntToFloatFunction, HeightField) */
+	public HeightField diamondSquare(int n, float smoothness, float range, boolean wrapX, boolean wrapY, ToFloatFunction<Vector2> init, HeightField field) {
+		return diamondSquare(n, smoothness, range, wrapX, wrapY, Noise.init(init), field);
+	}
+
+	/** refines an existing coarse height map using the diamond-square algorithm, for example to upscale a hand-painted map
+	 *  @param source the coarse height map, each cell becomes a cell {@code 2^n} cells apart from its neighbours in the given HeightField
+	 *  @param field the HeightField to write to, {@code (source.width - 1) * 2^n + 1} x {@code (source.height - 1) * 2^n + 1} large
+	 *  @see #diamondSquare(int, float, float, boolean, boolean, IntIntToFloatFunction, HeightField) */
+	public HeightField diamondSquare(int n, float smoothness, float range, boolean wrapX, boolean wrapY, HeightField source, HeightField field) {
+		return diamondSquare(n, smoothness, range, wrapX, wrapY, Noise.init(n, source, field), field);
+	}
+
+	/** generates a height map using the diamond-square algorithm into the given HeightField
+	 *  @param n level of detail
+	 *  @param smoothness the smoothness of the transitions
+	 *  @param range the range used for random values
+	 *  @param wrapX if the map should wrap on the x axis
+	 *  @param wrapY if the map should wrap on the y axis
+	 *  @param init takes the coordinate to be initialized and returns the value to use for initialization, or null to use random values
+	 *  @param field the HeightField to write to, its width and height must be {@link Noise#size(int, int) sizes} for {@code n}
+	 *  @return the given HeightField */
+	public HeightField diamondSquare(int n, float smoothness, float range, boolean wrapX, boolean wrapY, IntIntToFloatFunction init, HeightField field) {
+		Noise.checkSize(n, field);
+		field.fill(0); // cells are read before they are generated near the edges, so start from the same state as a new array
+		diamondSquare(n, smoothness, range, wrapX, wrapY, init, field, field.width, field.height);
+		return field;
+	}
+
+	/** the diamond-square kernel of all height map types
+	 *  @see #diamondSquare(int, float, float, boolean, boolean, IntIntToFloatFunction, HeightField) */
+	private void diamondSquare(int n, float smoothness, float range, boolean wrapX, boolean wrapY, IntIntToFloatFunction init, Grid map, int width, int height) {
+		range /= 2; // divide range by two to avoid doing it later for random(-range, range) calls
+		int power = 1 << n, x;
+		initialize(map, power, width, height, range, init);
+		for(int step = power / 2; step > 0; step /= 2, range /= smoothness) {
+			for(x = step; x < width; x += step * 2)
+				squareRow(map, x, step, height, range);
+			for(x = 0; x < width - (wrapX ? 1 : 0); x += step)
+				diamondRow(map, x, step, width, height, range, wrapX, wrapY);
+		}
+	}
+
+	/** generates row x of the square step of the refinement level of the given step using the diamond-square algorithm
+	 *  @param range the half range of the random values of the level */
+	void squareRow(Grid map, int x, int step, int height, float range) {
+		for(int y = step; y < height; y += step * 2)
+			map.set(x, y, (map.get(x - step, y - step) + map.get(x - step, y + step) + map.get(x + step, y + step) + map.get(x + step, y - step)) / 4 + random(-range, range));
+	}
+
+	/** generates row x of the diamond step of the refinement level of the given step using the diamond-square algorithm
+	 *  @param range the half range of the random values of the level */
+	void diamondRow(Grid map, int x, int step, int width, int height, float range, boolean wrapX, boolean wrapY) {
+		int left = ArrayUtils.repeat(width, x - step), right = ArrayUtils.repeat(width, x + step);
+		float avg;
+		for(int y = step * (1 - x / step % 2); y < height - (wrapY ? 1 : 0); y += step * 2) {
+			map.set(x, y, (avg = (map.get(left, y) + map.get(right, y) + map.get(x, ArrayUtils.repeat(height, y - step)) + map.get(x, ArrayUtils.repeat(height, y + step))) / 4) + random(-range, range));
+			if(wrapX && x == 0)
+				map.set(width - 1, y, avg);
+			if(wrapY && y == 0)
+				map.set(x, height - 1, avg);
+		}
+	}
+
+	/** sets the cells {@code power} apart that the refinement levels start from
+	 *  @param range the half range of the random values
+	 *  @param init takes the coordinate to be initialized and returns the value to use for initialization, or null to use random values */
+	void initialize(Grid map, int power, int width, int height, float range, IntIntToFloatFunction init) {
+		for(int x = 0; x < width; x += power)
+			for(int y = 0; y < height; y += power)
+				map.set(x, y, init == null ? random(-range, range) : init.apply(x, y));
+	}
+
+	/** @return a random value between start (inclusive) and end (exclusive) */
+	public float random(float start, float end) {
+		return start + nextFloat() * (end - start);
+	}
+
+	/** @return the next pseudo-random value between 0 (inclusive) and 1 (exclusive) */
+	protected float nextFloat() {
+		return (nextInt() >>> 8) / (float) (1 << 24);
+	}
+
+	/** @return the next pseudo-random int of xoshiro128** */
+	protected int nextInt() {
+		int result = Integer.rotateLeft(s1 * 5, 7) * 9, t = s1 << 9;
+		s2 ^= s0;
+		s3 ^= s1;
+		s1 ^= s2;
+		s0 ^= s3;
+		s2 ^= t;
+		s3 = Integer.rotateLeft(s3, 11);
+		return result;
+	}
+
+	/** @return the {@link #seed} */
+	public long getSeed() {
+		return seed;
+	}
+
+	/** Resets the pseudo-random number generator, so the same maps are generated again.
+	 *  @param seed the {@link #seed} to set */
+	public void setSeed(long seed) {
+		this.seed = seed;
+		long z = mix(seed + 0x9E3779B97F4A7C15L); // expand the seed to the state using SplitMix64
+		s0 = (int) z;
+		s1 = (int) (z >>> 32);
+		z = mix(seed + 2 * 0x9E3779B97F4A7C15L);
+		s2 = (int) z;
+		s3 = (int) (z >>> 32);
+		if((s0 | s1 | s2 | s3) == 0) // xoshiro would only generate zeros
+			s0 = 1;
+	}
+
+	/** the finalizer of SplitMix64 */
+	private static long mix(long z) {
+		z = (z ^ z >>> 30) * 0xBF58476D1CE4E5B9L;
+		z = (z ^ z >>> 27) * 0x94D049BB133111EBL;
+		return z ^ z >>> 31;
+	}
+
+}
@@ -0,0 +1,354 @@
+package net.dermetfan.utils.math;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import com.badlogic.gdx.math.Rectangle;
+
+import static net.dermetfan.utils.ArrayUtils.checkRegion;
+
+/** Parallel variants of the bulk operations of {@link MathUtils} and {@link GeometryUtils} for very large arrays, like heightfields and point clouds.
+ *  A region is split in halves until the parts are no longer than the {@link #threshold}, and the parts run on a {@link ForkJoinPool}. Since the splits only depend on the length of the region and the results of both halves are always combined in the same order,
+ *  a result does not vary from run to run or with the number of threads. {@link #sum(float[], int, int) Sums} may differ from {@link MathUtils#sum(float[], int, int)} in the last bits due to the pairwise summation (which is usually more accurate).
+ *  <strong>Does NOT work on HTML5!</strong>
+ *  @since 0.13.8 */
+public final class ParallelMathUtils {
+
+	private ParallelMathUtils() {}
+
+	/** the maximum number of elements a task processes before its region is split further (65536 by default) */
+	public static int threshold = 1 << 16;
+
+	/** @see #sum(float[], int, int, ForkJoinPool) */
+	public static float sum(float[] items, int offset, int length) {
+		return sum(items, offset, length, ForkJoinPool.commonPool());
+	}
+
+	/** @param pool the ForkJoinPool to run the tasks on, or null to run them on the calling thread
+	 *  @return the sum of the given region
+	 *  @see MathUtils#sum(float[], int, int) */
+	public static float sum(float[] items, int offset, int length, ForkJoinPool pool) {
+		checkRegion(items, offset, length);
+		return reduce(Reduction.SUM, items, offset, length, 1, pool).a;
+	}
+
+	/** @see #min(float[], int, int, ForkJoinPool) */
+	public static float min(float[] items, int offset, int length) {
+		return min(items, offset, length, ForkJoinPool.commonPool());
+	}
+
+	/** @param pool the ForkJoinPool to run the tasks on, or null to run them on the calling thread
+	 *  @return the smallest element of the given region
+	 *  @see MathUtils#min(float[], int, int) */
+	public static float min(float[] items, int offset, int length, ForkJoinPool pool) {
+		checkRegion(items, offset, length);
+		return reduce(Reduction.MIN, items, offset, length, 1, pool).a;
+	}
+
+	/** @see #max(float[], int, int, ForkJoinPool) */
+	public static float max(float[] items, int offset, int length) {
+		return max(items, offset, length, ForkJoinPool.commonPool());
+	}
+
+	/** @param pool the ForkJoinPool to run the tasks on, or null to run them on the calling thread
+	 *  @return the largest element of the given region
+	 *  @see MathUtils#max(float[], int, int) */
+	public static float max(float[] items, int offset, int length, ForkJoinPool pool) {
+		checkRegion(items, offset, length);
+		return reduce(Reduction.MAX, items, offset, length, 1, pool).a;
+	}
+
+	/** @see #amplitude2(float[], int, int, ForkJoinPool) */
+	public static float amplitude2(float[] items, int offset, int length) {
+		return amplitude2(items, offset, length, ForkJoinPool.commonPool());
+	}
+
+	/** @param pool the ForkJoinPool to run the tasks on, or null to run them on the calling thread
+	 *  @return the peak-to-peak amplitude of the given region
+	 *  @see MathUtils#amplitude2(float[], int, int) */
+	public static float amplitude2(float[] items, int offset, int length, ForkJoinPool pool) {
+		checkRegion(items, offset, length);
+		if(length == 0)
+			return Float.NaN;
+		Reduction bounds = reduce(Reduction.MIN_MAX, items, offset, length, 1, pool);
+		return bounds.b - bounds.a;
+	}
+
+	/** @see #scale(float[], int, int, float, float, ForkJoinPool) */
+	public static float[] scale(float[] items, int offset, int length, float min, float max) {
+		return scale(items, offset, length, min, max, ForkJoinPool.commonPool());
+	}
+
+	/** @param pool the ForkJoinPool to run the tasks on, or null to run them on the calling thread
+	 *  @return the given array, scaled like {@link MathUtils#scale(float[], int, int, float, float)} would */
+	public static float[] scale(float[] items, int offset, int length, float min, float max, ForkJoinPool pool) {
+		checkRegion(items, offset, length);
+		Reduction bounds = reduce(Reduction.MIN_MAX, items, offset, length, 1, pool);
+		float divisor = (bounds.b - bounds.a) / (max - min);
+		float addend = min - (divisor > 0 ? bounds.a : bounds.b) / divisor;
+		transform(Transformation.SCALE, items, offset, length, 1, divisor, addend, pool);
+		return items;
+	}
+
+	/** @see #minX(float[], int, int, ForkJoinPool) */
+	public static float minX(float[] vertices, int offset, int length) {
+		return minX(vertices, offset, length, ForkJoinPool.commonPool());
+	}
+
+	/** @param pool the ForkJoinPool to run the tasks on, or null to run them on the calling thread
+	 *  @see GeometryUtils#minX(float[], int, int) */
+	public static float minX(float[] vertices, int offset, int length, ForkJoinPool pool) {
+		checkRegion(vertices, offset, length);
+		return reduce(Reduction.MIN, vertices, offset, length, 2, pool).a;
+	}
+
+	/** @see #maxX(float[], int, int, ForkJoinPool) */
+	public static float maxX(float[] vertices, int offset, int length) {
+		return maxX(vertices, offset, length, ForkJoinPool.commonPool());
+	}
+
+	/** @param pool the ForkJoinPool to run the tasks on, or null to run them on the calling thread
+	 *  @see GeometryUtils#maxX(float[], int, int) */
+	public static float maxX(float[] vertices, int offset, int length, ForkJoinPool pool) {
+		checkRegion(vertices, offset, length);
+		return reduce(Reduction.MAX, vertices, offset, length, 2, pool).a;
+	}
+
+	/** @see #minY(float[], int, int, ForkJoinPool) */
+	public static float minY(float[] vertices, int offset, int length) {
+		return minY(vertices, offset, length, ForkJoinPool.commonPool());
+	}
+
+	/** @param pool the ForkJoinPool to run the tasks on, or null to run them on the calling thread
+	 *  @see GeometryUtils#minY(float[], int, int) */
+	public static float minY(float[] vertices, int offset, int length, ForkJoinPool pool) {
+		checkRegion(vertices, offset, length);
+		return length < 2 ? Float.NaN : reduce(Reduction.MIN, vertices, offset + 1, length - 1, 2, pool).a;
+	}
+
+	/** @see #maxY(float[], int, int, ForkJoinPool) */
+	public static float maxY(float[] vertices, int offset, int length) {
+		return maxY(vertices, offset, length, ForkJoinPool.commonPool());
+	}
+
+	/** @param pool the ForkJoinPool to run the tasks on, or null to run them on the calling thread
+	 *  @see GeometryUtils#maxY(float[], int, int) */
+	public static float maxY(float[] vertices, int offset, int length, ForkJoinPool pool) {
+		checkRegion(vertices, offset, length);
+		return length < 2 ? Float.NaN : reduce(Reduction.MAX, vertices, offset + 1, length - 1, 2, pool).a;
+	}
+
+	/** @see #setToAABB(Rectangle, float[], int, int, ForkJoinPool) */
+	public static Rectangle setToAABB(Rectangle aabb, float[] vertices, int offset, int length) {
+		return setToAABB(aabb, vertices, offset, length, ForkJoinPool.commonPool());
+	}
+
+	/** finds the bounds on both axes in one pass
+	 *  @param pool the ForkJoinPool to run the tasks on, or null to run them on the calling thread
+	 *  @return the given Rectangle for chaining
+	 *  @see net.dermetfan.gdx.math.GeometryUtils#setToAABB(Rectangle, float[], int, int) */
+	public static Rectangle setToAABB(Rectangle aabb, float[] vertices, int offset, int length, ForkJoinPool pool) {
+		checkRegion(vertices, offset, length);
+		if(length < 2)
+			return aabb.set(Float.NaN, Float.NaN, Float.NaN, Float.NaN);
+		Reduction bounds = reduce(Reduction.BOUNDS, vertices, offset, length - length % 2, 2, pool);
+		return aabb.set(bounds.a, bounds.b, bounds.c - bounds.a, bounds.d - bounds.b);
+	}
+
+	/** @see #add(float[], int, int, float, float, ForkJoinPool) */
+	public static float[] add(float[] vertices, int offset, int length, float x, float y) {
+		return add(vertices, offset, length, x, y, ForkJoinPool.commonPool());
+	}
+
+	/** @param pool the ForkJoinPool to run the tasks on, or null to run them on the calling thread
+	 *  @see GeometryUtils#add(float[], int, int, float, float) */
+	public static float[] add(float[] vertices, int offset, int length, float x, float y, ForkJoinPool pool) {
+		checkRegion(vertices, offset, length);
+		transform(Transformation.ADD, vertices, offset, length - length % 2, 2, x, y, pool);
+		return vertices;
+	}
+
+	/** @see #mul(float[], int, int, float, float, ForkJoinPool) */
+	public static float[] mul(float[] vertices, int offset, int length, float factorX, float factorY) {
+		return mul(vertices, offset, length, factorX, factorY, ForkJoinPool.commonPool());
+	}
+
+	/** @param pool the ForkJoinPool to run the tasks on, or null to run them on the calling thread
+	 *  @see GeometryUtils#mul(float[], int, int, float, float) */
+	public static float[] mul(float[] vertices, int offset, int length, float factorX, float factorY, ForkJoinPool pool) {
+		checkRegion(vertices, offset, length);
+		transform(Transformation.MUL, vertices, offset, length - length % 2, 2, factorX, factorY, pool);
+		return vertices;
+	}
+
+	/** runs a reduction on the given pool or, if it is null, on the calling thread */
+	private static Reduction reduce(int op, float[] items, int offset, int length, int stride, ForkJoinPool pool) {
+		Reduction reduction = new Reduction(op, items, offset, offset + length, stride, pool != null);
+		if(pool != null)
+			pool.invoke(reduction);
+		else
+			reduction.compute();
+		return reduction;
+	}
+
+	/** runs a transformation on the given pool or, if it is null, on the calling thread */
+	private static void transform(int op, float[] items, int offset, int length, int stride, float x, float y, ForkJoinPool pool) {
+		Transformation transformation = new Transformation(op, items, offset, offset + length, stride, x, y, pool != null);
+		if(pool != null)
+			pool.invoke(transformation);
+		else
+			transformation.compute();
+	}
+
+	/** @return the index at which to split the given range of every stride-th element in halves, or -1 if it is not longer than the {@link #threshold} */
+	private static int split(int from, int to, int stride) {
+		int count = (to - from + stride - 1) / stride;
+		return count <= threshold || count < 2 ? -1 : from + count / 2 * stride;
+	}
+
+	/** reduces every stride-th element of a range, splitting it in halves */
+	private static class Reduction extends RecursiveAction {
+
+		static final int SUM = 0, MIN = 1, MAX = 2, MIN_MAX = 3, BOUNDS = 4;
+
+		private final int op;
+		private final float[] items;
+		private final int from, to, stride;
+
+		/** if the halves should be forked rather than computed one after the other */
+		private final boolean fork;
+
+		/** The results. The sum, min or max in {@code a}, min and max in {@code a} and {@code b}, or min x, min y, max x and max y in {@code a} to {@code d}. */
+		float a, b, c, d;
+
+		Reduction(int op, float[] items, int from, int to, int stride, boolean fork) {
+			this.op = op;
+			this.items = items;
+			this.from = from;
+			this.to = to;
+			this.stride = stride;
+			this.fork = fork;
+		}
+
+		@Override
+		protected void compute() {
+			int mid = split(from, to, stride);
+			if(mid < 0) {
+				compute(from, to);
+				return;
+			}
+			Reduction left = new Reduction(op, items, from, mid, stride, fork), right = new Reduction(op, items, mid, to, stride, fork);
+			if(fork)
+				invokeAll(left, right);
+			else {
+				left.compute();
+				right.compute();
+			}
+			switch(op) {
+			case SUM:
+				a = left.a + right.a;
+				break;
+			case MIN:
+				a = right.a < left.a ? right.a : left.a;
+				break;
+			case MAX:
+				a = right.a > left.a ? right.a : left.a;
+				break;
+			case MIN_MAX:
+				a = right.a < left.a ? right.a : left.a;
+				b = right.b > left.b ? right.b : left.b;
+				break;
+			case BOUNDS:
+				a = right.a < left.a ? right.a : left.a;
+				b = right.b < left.b ? right.b : left.b;
+				c = right.c > left.c ? right.c : left.c;
+				d = right.d > left.d ? right.d : left.d;
+			}
+		}
+
+		/** computes the given range directly */
+		void compute(int from, int to) {
+			switch(op) {
+			case SUM:
+				a = MathUtils.sum(items, from, to - from);
+				break;
+			case MIN:
+				a = MathUtils.min(items, from, to - from, stride);
+				break;
+			case MAX:
+				a = MathUtils.max(items, from, to - from, stride);
+				break;
+			case MIN_MAX:
+				a = MathUtils.min(items, from, to - from, stride);
+				b = MathUtils.max(items, from, to - from, stride);
+				break;
+			case BOUNDS:
+				a = MathUtils.min(items, from, to - from, stride);
+				c = MathUtils.max(items, from, to - from, stride);
+				b = MathUtils.min(items, from + 1, to - from - 1, stride);
+				d = MathUtils.max(items, from + 1, to - from - 1, stride);
+			}
+		}
+
+	}
+
+	/** transforms every stride-th element or pair of a range, splitting it in halves */
+	private static class Transformation extends RecursiveAction {
+
+		static final int SCALE = 0, ADD = 1, MUL = 2;
+
+		private final int op;
+		private final float[] items;
+		private final int from, to, stride;
+
+		/** the operands, the divisor and addend for scaling or the x and y values for vertices */
+		private final float x, y;
+
+		/** if the halves should be forked rather than computed one after the other */
+		private final boolean fork;
+
+		Transformation(int op, float[] items, int from, int to, int stride, float x, float y, boolean fork) {
+			this.op = op;
+			this.items = items;
+			this.from = from;
+			this.to = to;
+			this.stride = stride;
+			this.x = x;
+			this.y = y;
+			this.fork = fork;
+		}
+
+		@Override
+		protected void compute() {
+			int mid = split(from, to, stride);
+			if(mid < 0) {
+				compute(from, to);
+				return;
+			}
+			Transformation left = new Transformation(op, items, from, mid, stride, x, y, fork), right = new Transformation(op, items, mid, to, stride, x, y, fork);
+			if(fork)
+				invokeAll(left, right);
+			else {
+				left.compute();
+				right.compute();
+			}
+		}
+
+		/** computes the given range directly */
+		void compute(int from, int to) {
+			switch(op) {
+			case SCALE:
+				for(int i = from; i < to; i++)
+					items[i] = items[i] / x + y;
+				break;
+			case ADD:
+				GeometryUtils.add(items, from, to - from, x, y);
+				break;
+			case MUL:
+				GeometryUtils.mul(items, from, to - from, x, y);
+			}
+		}
+
+	}
+
+}
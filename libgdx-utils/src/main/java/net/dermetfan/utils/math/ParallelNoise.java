@@ -0,0 +1,146 @@
+package net.dermetfan.utils.math;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import com.badlogic.gdx.math.Vector2;
+import net.dermetfan.utils.IntIntToFloatFunction;
+import net.dermetfan.utils.ToFloatFunction;
+
+/** Generates height maps using the diamond-square algorithm on multiple threads.
+ *  Each step of a refinement level is split into bands of rows that run on a {@link ForkJoinPool}. The random values come from {@link Noise#hash(long, int, int, int)} instead of a shared {@link java.util.Random},
+ *  so the result only depends on the seed and is bit-identical no matter how many threads (if any) generate it. It is not the same as the result of {@link Noise#diamondSquare(int, float, float, boolean, boolean, HeightField)} for any seed.
+ *  <strong>Does NOT work on HTML5!</strong>
+ *  @since 0.13.8 */
+public final class ParallelNoise {
+
+	private ParallelNoise() {}
+
+	/** the minimum number of cells a task computes before the rows of a step are split further (4096 by default) */
+	public static int threshold = 4096;
+
+	/** @see #diamondSquare(int, float, float, boolean, boolean, long, IntIntToFloatFunction, HeightField, ForkJoinPool) */
+	public static HeightField diamondSquare(int n, float smoothness, float range, boolean wrapX, boolean wrapY, long seed, HeightField field) {
+		return diamondSquare(n, smoothness, range, wrapX, wrapY, seed, (IntIntToFloatFunction) null, field, ForkJoinPool.commonPool());
+	}
+
+	/** @see #diamondSquare(int, float, float, boolean, boolean, long, IntIntToFloatFunction, HeightField, ForkJoinPool) */
+	public static HeightField diamondSquare(int n, float smoothness, float range, boolean wrapX, boolean wrapY, long seed, HeightField field, ForkJoinPool pool) {
+		return diamondSquare(n, smoothness, range, wrapX, wrapY, seed, (IntIntToFloatFunction) null, field, pool);
+	}
+
+	/** @param init Takes the coordinate to be initialized and returns the value to use for initialization. Called on the calling thread only. If null, random values are used.
+	 *  @see #diamondSquare(int, float, float, boolean, boolean, long, IntIntToFloatFunction, HeightField, ForkJoinPool) */
+	public static HeightField diamondSquare(int n, float smoothness, float range, boolean wrapX, boolean wrapY, long seed, ToFloatFunction<Vector2> init, HeightField field, ForkJoinPool pool) {
+		return diamondSquare(n, smoothness, range, wrapX, wrapY, seed, Noise.init(init), field, pool);
+	}
+
+	/** refines an existing coarse height map, for example to upscale a hand-painted map
+	 *  @param source the coarse height map, each cell becomes a cell {@code 2^n} cells apart from its neighbours in the given HeightField
+	 *  @param field the HeightField to write to, {@code (source.width - 1) * 2^n + 1} x {@code (source.height - 1) * 2^n + 1} large
+	 *  @see #diamondSquare(int, float, float, boolean, boolean, long, IntIntToFloatFunction, HeightField, ForkJoinPool) */
+	public static HeightField diamondSquare(int n, float smoothness, float range, boolean wrapX, boolean wrapY, long seed, HeightField source, HeightField field, ForkJoinPool pool) {
+		return diamondSquare(n, smoothness, range, wrapX, wrapY, seed, Noise.init(n, source, field), field, pool);
+	}
+
+	/** generates a height map using the diamond-square algorithm
+	 *  @param n level of detail
+	 *  @param smoothness the smoothness of the transitions
+	 *  @param range the range used for random values
+	 *  @param wrapX if the map should wrap on the x axis, the last row will equal the first
+	 *  @param wrapY if the map should wrap on the y axis, the last column will equal the first
+	 *  @param seed the seed of the random values
+	 *  @param init Takes the coordinate to be initialized and returns the value to use for initialization. Called on the calling thread only. If null, random values are used.
+	 *  @param field the HeightField to write to, its width and height must be {@link Noise#size(int, int) sizes} for {@code n}
+	 *  @param pool the ForkJoinPool to run the steps on, or null to run them on the calling thread
+	 *  @return the given HeightField */
+	public static HeightField diamondSquare(int n, float smoothness, float range, boolean wrapX, boolean wrapY, long seed, IntIntToFloatFunction init, HeightField field, ForkJoinPool pool) {
+		Noise.checkSize(n, field);
+		diamondSquare(n, smoothness, range, wrapX, wrapY, seed, init, field, field.width, field.height, pool);
+		return field;
+	}
+
+	/** the kernel of all height map types, the size of the map must be checked before
+	 *  @see #diamondSquare(int, float, float, boolean, boolean, long, IntIntToFloatFunction, HeightField, ForkJoinPool) */
+	static void diamondSquare(int n, float smoothness, float range, boolean wrapX, boolean wrapY, long seed, IntIntToFloatFunction init, Grid field, int width, int height, ForkJoinPool pool) {
+		range /= 2; // divide range by two to avoid doing it later
+
+		int power = 1 << n;
+
+		// seed the grid
+		for(int x = 0; x < width; x += power)
+			for(int y = 0; y < height; y += power)
+				if(wrapX && x == width - 1)
+					field.set(x, y, field.get(0, y));
+				else if(wrapY && y == height - 1)
+					field.set(x, y, field.get(x, 0));
+				else
+					field.set(x, y, init != null ? init.apply(x, y) : -range + Noise.hash(seed, n, x, y) * range * 2);
+
+		for(int level = n - 1; level >= 0; level--, range /= smoothness) {
+			int step = 1 << level;
+			Step square = new Step(field, width, height, seed, level, range, false, wrapX, wrapY, 0, (width - 1) / (step * 2));
+			Step diamond = new Step(field, width, height, seed, level, range, true, wrapX, wrapY, 0, (width - (wrapX ? 1 : 0) + step - 1) / step);
+			if(pool != null) {
+				pool.invoke(square);
+				pool.invoke(diamond);
+			} else {
+				square.compute(square.from, square.to);
+				diamond.compute(diamond.from, diamond.to);
+			}
+		}
+	}
+
+	/** computes the rows of one step of a refinement level, splitting them into bands */
+	private static class Step extends RecursiveAction {
+
+		private final Grid field;
+		private final int width, height;
+		private final long seed;
+		private final int level;
+		private final float range;
+
+		/** if this is the diamond step rather than the square step */
+		private final boolean diamond;
+
+		private final boolean wrapX, wrapY;
+
+		/** the range of rows of this task, counted in rows of this step */
+		private final int from, to;
+
+		Step(Grid field, int width, int height, long seed, int level, float range, boolean diamond, boolean wrapX, boolean wrapY, int from, int to) {
+			this.field = field;
+			this.width = width;
+			this.height = height;
+			this.seed = seed;
+			this.level = level;
+			this.range = range;
+			this.diamond = diamond;
+			this.wrapX = wrapX;
+			this.wrapY = wrapY;
+			this.from = from;
+			this.to = to;
+		}
+
+		@Override
+		protected void compute() {
+			int cellsPerRow = (height >> level) / 2 + 1;
+			if(to - from <= 1 || (long) (to - from) * cellsPerRow <= threshold) {
+				compute(from, to);
+				return;
+			}
+			int mid = (from + to) >>> 1;
+			invokeAll(new Step(field, width, height, seed, level, range, diamond, wrapX, wrapY, from, mid), new Step(field, width, height, seed, level, range, diamond, wrapX, wrapY, mid, to));
+		}
+
+		/** computes the rows in the given range directly */
+		void compute(int from, int to) {
+			if(diamond)
+				Noise.diamondRows(field, width, height, seed, level, 0, 0, range, wrapX, wrapY, false, from, to);
+			else
+				Noise.squareRows(field, height, seed, level, 0, 0, range, from, to);
+		}
+
+	}
+
+}
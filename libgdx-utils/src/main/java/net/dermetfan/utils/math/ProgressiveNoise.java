@@ -0,0 +1,156 @@
+package net.dermetfan.utils.math;
+
+import com.badlogic.gdx.utils.TimeUtils;
+
+/** Generates a height map over multiple calls to {@link #update(long)}, each using at most about the given time, so that generation does not stall the render thread.
+ *  The corners are generated at once and the map is refined level by level, row by row, in the same order as {@link NoiseGenerator}, so once {@link #isDone() done} the map is exactly what the {@link #getGenerator() generator} would have generated in one call.
+ *  Until then, {@link #sample(int, int)} interpolates a coarse preview from the finished levels.
+ *  @since 0.13.8 */
+public class ProgressiveNoise {
+
+	/** the generator of the random values */
+	private final NoiseGenerator generator;
+
+	/** the HeightField being generated, null if nothing was started */
+	private HeightField field;
+
+	/** if {@link #field} is generated by diamond-square rather than midpoint displacement */
+	private boolean diamondSquare;
+
+	private boolean wrapX, wrapY;
+
+	private float smoothness;
+
+	/** the half range of the random values of the current level */
+	private float range;
+
+	/** the distance between the cells generated in the current level, 0 if done */
+	private int step;
+
+	/** if the square step of the current level is in progress */
+	private boolean square;
+
+	/** the next row to generate */
+	private int x;
+
+	/** @param generator the {@link #generator} */
+	public ProgressiveNoise(NoiseGenerator generator) {
+		this.generator = generator;
+	}
+
+	/** starts generating a height map using the midpoint-displacement algorithm and generates the corners
+	 *  @see NoiseGenerator#midpointDisplacement(int, float, float, HeightField) */
+	public void midpointDisplacement(int n, float smoothness, float range, HeightField field) {
+		start(n, smoothness, range, false, false, false, field);
+	}
+
+	/** starts generating a height map using the diamond-square algorithm and generates the corners
+	 *  @see NoiseGenerator#diamondSquare(int, float, float, boolean, boolean, HeightField) */
+	public void diamondSquare(int n, float smoothness, float range, boolean wrapX, boolean wrapY, HeightField field) {
+		start(n, smoothness, range, true, wrapX, wrapY, field);
+	}
+
+	private void start(int n, float smoothness, float range, boolean diamondSquare, boolean wrapX, boolean wrapY, HeightField field) {
+		Noise.checkSize(n, field);
+		field.fill(0); // cells are read before they are generated near the edges, so start from the same state as a new array
+		this.field = field;
+		this.diamondSquare = diamondSquare;
+		this.wrapX = wrapX;
+		this.wrapY = wrapY;
+		this.smoothness = smoothness;
+		this.range = range / 2; // divide range by two to avoid doing it later for random(-range, range) calls
+
+		int power = 1 << n;
+		generator.initialize(field, power, field.width, field.height, this.range, null);
+
+		step = power / 2;
+		square = diamondSquare;
+		x = diamondSquare ? step : 0;
+	}
+
+	/** generates rows until the given time is used up, but at least one
+	 *  @param budget the time in nanoseconds this call should take at most
+	 *  @return if the map is {@link #isDone() done} */
+	public boolean update(long budget) {
+		if(field == null)
+			throw new IllegalStateException("nothing to generate");
+		long start = TimeUtils.nanoTime();
+		while(step > 0) {
+			generateRow();
+			if(TimeUtils.nanoTime() - start >= budget)
+				break;
+		}
+		return step == 0;
+	}
+
+	/** generates the remaining rows at once
+	 *  @return the generated HeightField */
+	public HeightField finish() {
+		if(field == null)
+			throw new IllegalStateException("nothing to generate");
+		while(step > 0)
+			generateRow();
+		return field;
+	}
+
+	/** generates row {@link #x} and advances to the next one */
+	private void generateRow() {
+		int width = field.width, height = field.height;
+		if(!diamondSquare) {
+			generator.midpointDisplacementRow(field, x, step, height, range);
+			if((x += step) >= width)
+				nextLevel();
+		} else if(square) {
+			generator.squareRow(field, x, step, height, range);
+			if((x += step * 2) >= width) {
+				square = false;
+				x = 0;
+			}
+		} else {
+			generator.diamondRow(field, x, step, width, height, range, wrapX, wrapY);
+			if((x += step) >= width - (wrapX ? 1 : 0))
+				nextLevel();
+		}
+	}
+
+	private void nextLevel() {
+		step /= 2;
+		range /= smoothness;
+		square = diamondSquare;
+		x = diamondSquare ? step : 0;
+	}
+
+	/** @return if the map is completely generated */
+	public boolean isDone() {
+		return field != null && step == 0;
+	}
+
+	/** @return the distance between the cells of the finished levels, 1 if {@link #isDone() done} */
+	public int getResolution() {
+		return Math.max(step * 2, 1);
+	}
+
+	/** @return the value at the given coordinate, interpolated bilinearly from the finished levels if the map is not {@link #isDone() done} yet */
+	public float sample(int x, int y) {
+		int resolution = getResolution();
+		if(resolution == 1)
+			return field.get(x, y);
+		int x0 = x / resolution * resolution, y0 = y / resolution * resolution;
+		int x1 = Math.min(x0 + resolution, field.width - 1), y1 = Math.min(y0 + resolution, field.height - 1);
+		float tx = (float) (x - x0) / resolution, ty = (float) (y - y0) / resolution;
+		float bottom = field.get(x0, y0) + (field.get(x1, y0) - field.get(x0, y0)) * tx;
+		float top = field.get(x0, y1) + (field.get(x1, y1) - field.get(x0, y1)) * tx;
+		return bottom + (top - bottom) * ty;
+	}
+
+	/** @return the HeightField being generated, null if nothing was started */
+	public HeightField getField() {
+		return field;
+	}
+
+	/** @return the {@link #generator} */
+	public NoiseGenerator getGenerator() {
+		return generator;
+	}
+
+}
@@ -0,0 +1,326 @@
+package net.dermetfan.utils.math;
+
+/** Coherent gradient noise that can be sampled at arbitrary points, unlike the height maps of {@link Noise} that must be generated as a whole.
+ *  Implements 2D and 3D simplex noise with fractal Brownian motion, ridged and domain-warped variants. The fill methods evaluate a whole region of a {@link HeightField} octave by octave in tight loops,
+ *  so only the visible part of an infinite map has to be computed. Instances are immutable and can be shared between threads.
+ *  @since 0.13.8 */
+public class SimplexNoise {
+
+	/** the skew and unskew factors of 2D */
+	private static final float F2 = .36602540378f, G2 = .21132486540f;
+
+	/** the skew and unskew factors of 3D */
+	private static final float F3 = 1 / 3f, G3 = 1 / 6f;
+
+	/** the gradients, the midpoints of the edges of a cube */
+	private static final float[] gradX = {1, -1, 1, -1, 1, -1, 1, -1, 0, 0, 0, 0},
+			gradY = {1, 1, -1, -1, 0, 0, 0, 0, 1, -1, 1, -1},
+			gradZ = {0, 0, 0, 0, 1, 1, -1, -1, 1, 1, -1, -1};
+
+	/** the offsets of the second sample of {@link #warp(float, float, float, int, float, float)} */
+	private static final float warpOffsetX = 5.2f, warpOffsetY = 1.3f;
+
+	/** the seed the permutation was created from */
+	private final long seed;
+
+	/** the permutation of 0 to 255, twice so that lookups do not need to wrap */
+	private final short[] perm = new short[512];
+
+	/** {@link #perm} modulo the number of gradients */
+	private final byte[] permMod12 = new byte[512];
+
+	/** @param seed the {@link #seed} */
+	public SimplexNoise(long seed) {
+		this.seed = seed;
+		short[] p = new short[256];
+		for(short i = 0; i < p.length; i++)
+			p[i] = i;
+		for(int i = p.length - 1; i > 0; i--) {
+			int j = (int) (Noise.hash(seed, -1, i, 0) * (i + 1));
+			short tmp = p[i];
+			p[i] = p[j];
+			p[j] = tmp;
+		}
+		for(int i = 0; i < perm.length; i++) {
+			perm[i] = p[i & 255];
+			permMod12[i] = (byte) (perm[i] % 12);
+		}
+	}
+
+	/** @return the noise value at the given coordinate in [-1, 1] */
+	public float noise(float x, float y) {
+		float s = (x + y) * F2;
+		int i = floor(x + s), j = floor(y + s);
+		float t = (i + j) * G2;
+		float x0 = x - (i - t), y0 = y - (j - t);
+		int i1, j1;
+		if(x0 > y0) {
+			i1 = 1;
+			j1 = 0;
+		} else {
+			i1 = 0;
+			j1 = 1;
+		}
+		float x1 = x0 - i1 + G2, y1 = y0 - j1 + G2;
+		float x2 = x0 - 1 + 2 * G2, y2 = y0 - 1 + 2 * G2;
+		int ii = i & 255, jj = j & 255;
+		float n = 0;
+		float t0 = .5f - x0 * x0 - y0 * y0;
+		if(t0 > 0) {
+			int g = permMod12[ii + perm[jj]];
+			t0 *= t0;
+			n += t0 * t0 * (gradX[g] * x0 + gradY[g] * y0);
+		}
+		float t1 = .5f - x1 * x1 - y1 * y1;
+		if(t1 > 0) {
+			int g = permMod12[ii + i1 + perm[jj + j1]];
+			t1 *= t1;
+			n += t1 * t1 * (gradX[g] * x1 + gradY[g] * y1);
+		}
+		float t2 = .5f - x2 * x2 - y2 * y2;
+		if(t2 > 0) {
+			int g = permMod12[ii + 1 + perm[jj + 1]];
+			t2 *= t2;
+			n += t2 * t2 * (gradX[g] * x2 + gradY[g] * y2);
+		}
+		return 70 * n;
+	}
+
+	/** @return the noise value at the given coordinate in [-1, 1] */
+	public float noise(float x, float y, float z) {
+		float s = (x + y + z) * F3;
+		int i = floor(x + s), j = floor(y + s), k = floor(z + s);
+		float t = (i + j + k) * G3;
+		float x0 = x - (i - t), y0 = y - (j - t), z0 = z - (k - t);
+		int i1, j1, k1, i2, j2, k2;
+		if(x0 >= y0) {
+			if(y0 >= z0) {
+				i1 = 1; j1 = 0; k1 = 0; i2 = 1; j2 = 1; k2 = 0;
+			} else if(x0 >= z0) {
+				i1 = 1; j1 = 0; k1 = 0; i2 = 1; j2 = 0; k2 = 1;
+			} else {
+				i1 = 0; j1 = 0; k1 = 1; i2 = 1; j2 = 0; k2 = 1;
+			}
+		} else {
+			if(y0 < z0) {
+				i1 = 0; j1 = 0; k1 = 1; i2 = 0; j2 = 1; k2 = 1;
+			} else if(x0 < z0) {
+				i1 = 0; j1 = 1; k1 = 0; i2 = 0; j2 = 1; k2 = 1;
+			} else {
+				i1 = 0; j1 = 1; k1 = 0; i2 = 1; j2 = 1; k2 = 0;
+			}
+		}
+		float x1 = x0 - i1 + G3, y1 = y0 - j1 + G3, z1 = z0 - k1 + G3;
+		float x2 = x0 - i2 + 2 * G3, y2 = y0 - j2 + 2 * G3, z2 = z0 - k2 + 2 * G3;
+		float x3 = x0 - 1 + 3 * G3, y3 = y0 - 1 + 3 * G3, z3 = z0 - 1 + 3 * G3;
+		int ii = i & 255, jj = j & 255, kk = k & 255;
+		float n = 0;
+		float t0 = .6f - x0 * x0 - y0 * y0 - z0 * z0;
+		if(t0 > 0) {
+			int g = permMod12[ii + perm[jj + perm[kk]]];
+			t0 *= t0;
+			n += t0 * t0 * (gradX[g] * x0 + gradY[g] * y0 + gradZ[g] * z0);
+		}
+		float t1 = .6f - x1 * x1 - y1 * y1 - z1 * z1;
+		if(t1 > 0) {
+			int g = permMod12[ii + i1 + perm[jj + j1 + perm[kk + k1]]];
+			t1 *= t1;
+			n += t1 * t1 * (gradX[g] * x1 + gradY[g] * y1 + gradZ[g] * z1);
+		}
+		float t2 = .6f - x2 * x2 - y2 * y2 - z2 * z2;
+		if(t2 > 0) {
+			int g = permMod12[ii + i2 + perm[jj + j2 + perm[kk + k2]]];
+			t2 *= t2;
+			n += t2 * t2 * (gradX[g] * x2 + gradY[g] * y2 + gradZ[g] * z2);
+		}
+		float t3 = .6f - x3 * x3 - y3 * y3 - z3 * z3;
+		if(t3 > 0) {
+			int g = permMod12[ii + 1 + perm[jj + 1 + perm[kk + 1]]];
+			t3 *= t3;
+			n += t3 * t3 * (gradX[g] * x3 + gradY[g] * y3 + gradZ[g] * z3);
+		}
+		return 32 * n;
+	}
+
+	/** fractal Brownian motion: sums octaves of noise with rising frequency and falling amplitude
+	 *  @param octaves the number of octaves, at least one
+	 *  @param lacunarity the factor by which the frequency rises with each octave, usually 2
+	 *  @param gain the factor by which the amplitude falls with each octave, usually 0.5
+	 *  @return the noise value at the given coordinate in [-1, 1] */
+	public float fbm(float x, float y, int octaves, float lacunarity, float gain) {
+		checkOctaves(octaves);
+		float sum = 0, amplitude = 1, frequency = 1;
+		for(int o = 0; o < octaves; o++, frequency *= lacunarity, amplitude *= gain)
+			sum += noise(x * frequency, y * frequency) * amplitude;
+		return sum / amplitudes(octaves, gain);
+	}
+
+	/** @return the noise value at the given coordinate in [-1, 1]
+	 *  @see #fbm(float, float, int, float, float) */
+	public float fbm(float x, float y, float z, int octaves, float lacunarity, float gain) {
+		checkOctaves(octaves);
+		float sum = 0, amplitude = 1, frequency = 1;
+		for(int o = 0; o < octaves; o++, frequency *= lacunarity, amplitude *= gain)
+			sum += noise(x * frequency, y * frequency, z * frequency) * amplitude;
+		return sum / amplitudes(octaves, gain);
+	}
+
+	/** like {@link #fbm(float, float, int, float, float) fbm}, but folds each octave to {@code (1 - |noise|)^2}, which produces sharp ridges
+	 *  @return the noise value at the given coordinate in [0, 1] */
+	public float ridged(float x, float y, int octaves, float lacunarity, float gain) {
+		checkOctaves(octaves);
+		float sum = 0, amplitude = 1, frequency = 1;
+		for(int o = 0; o < octaves; o++, frequency *= lacunarity, amplitude *= gain)
+			sum += ridge(noise(x * frequency, y * frequency)) * amplitude;
+		return sum / amplitudes(octaves, gain);
+	}
+
+	/** @return the noise value at the given coordinate in [0, 1]
+	 *  @see #ridged(float, float, int, float, float) */
+	public float ridged(float x, float y, float z, int octaves, float lacunarity, float gain) {
+		checkOctaves(octaves);
+		float sum = 0, amplitude = 1, frequency = 1;
+		for(int o = 0; o < octaves; o++, frequency *= lacunarity, amplitude *= gain)
+			sum += ridge(noise(x * frequency, y * frequency, z * frequency)) * amplitude;
+		return sum / amplitudes(octaves, gain);
+	}
+
+	/** domain warping: samples {@link #fbm(float, float, int, float, float) fbm} at a coordinate displaced by two other fbm samples, which produces swirly, eroded looking shapes
+	 *  @param strength the distance by which the coordinate is displaced at most
+	 *  @return the noise value at the given coordinate in [-1, 1] */
+	public float warp(float x, float y, float strength, int octaves, float lacunarity, float gain) {
+		float qx = fbm(x, y, octaves, lacunarity, gain), qy = fbm(x + warpOffsetX, y + warpOffsetY, octaves, lacunarity, gain);
+		return fbm(x + qx * strength, y + qy * strength, octaves, lacunarity, gain);
+	}
+
+	/** @see #fillFbm(HeightField, float, float, float, int, float, float) */
+	public HeightField fill(HeightField field, float x, float y, float step) {
+		float[] data = field.data;
+		for(int fx = 0; fx < field.width; fx++) {
+			float sx = x + fx * step;
+			for(int i = field.offset + fx * field.stride, fy = 0; fy < field.height; i++, fy++)
+				data[i] = noise(sx, y + fy * step);
+		}
+		return field;
+	}
+
+	/** @see #fillFbm(HeightField, float, float, float, float, int, float, float) */
+	public HeightField fill(HeightField field, float x, float y, float z, float step) {
+		float[] data = field.data;
+		for(int fx = 0; fx < field.width; fx++) {
+			float sx = x + fx * step;
+			for(int i = field.offset + fx * field.stride, fy = 0; fy < field.height; i++, fy++)
+				data[i] = noise(sx, y + fy * step, z);
+		}
+		return field;
+	}
+
+	/** fills the given HeightField with {@link #fbm(float, float, int, float, float) fbm}, one octave at a time
+	 *  @param field the HeightField to write to
+	 *  @param x the x coordinate of the noise at (0, 0) of the field
+	 *  @param y the y coordinate of the noise at (0, 0) of the field
+	 *  @param step the distance between two cells of the field in noise coordinates
+	 *  @return the given HeightField */
+	public HeightField fillFbm(HeightField field, float x, float y, float step, int octaves, float lacunarity, float gain) {
+		checkOctaves(octaves);
+		float[] data = field.data;
+		float amplitude = 1, frequency = 1;
+		for(int o = 0; o < octaves; o++, frequency *= lacunarity, amplitude *= gain)
+			for(int fx = 0; fx < field.width; fx++) {
+				float sx = (x + fx * step) * frequency;
+				for(int i = field.offset + fx * field.stride, fy = 0; fy < field.height; i++, fy++) {
+					float value = noise(sx, (y + fy * step) * frequency) * amplitude;
+					data[i] = o == 0 ? value : data[i] + value;
+				}
+			}
+		return divide(field, amplitudes(octaves, gain));
+	}
+
+	/** @param z the z coordinate of the slice
+	 *  @see #fillFbm(HeightField, float, float, float, int, float, float) */
+	public HeightField fillFbm(HeightField field, float x, float y, float z, float step, int octaves, float lacunarity, float gain) {
+		checkOctaves(octaves);
+		float[] data = field.data;
+		float amplitude = 1, frequency = 1;
+		for(int o = 0; o < octaves; o++, frequency *= lacunarity, amplitude *= gain) {
+			float sz = z * frequency;
+			for(int fx = 0; fx < field.width; fx++) {
+				float sx = (x + fx * step) * frequency;
+				for(int i = field.offset + fx * field.stride, fy = 0; fy < field.height; i++, fy++) {
+					float value = noise(sx, (y + fy * step) * frequency, sz) * amplitude;
+					data[i] = o == 0 ? value : data[i] + value;
+				}
+			}
+		}
+		return divide(field, amplitudes(octaves, gain));
+	}
+
+	/** fills the given HeightField with {@link #ridged(float, float, int, float, float) ridged} noise, one octave at a time
+	 *  @see #fillFbm(HeightField, float, float, float, int, float, float) */
+	public HeightField fillRidged(HeightField field, float x, float y, float step, int octaves, float lacunarity, float gain) {
+		checkOctaves(octaves);
+		float[] data = field.data;
+		float amplitude = 1, frequency = 1;
+		for(int o = 0; o < octaves; o++, frequency *= lacunarity, amplitude *= gain)
+			for(int fx = 0; fx < field.width; fx++) {
+				float sx = (x + fx * step) * frequency;
+				for(int i = field.offset + fx * field.stride, fy = 0; fy < field.height; i++, fy++) {
+					float value = ridge(noise(sx, (y + fy * step) * frequency)) * amplitude;
+					data[i] = o == 0 ? value : data[i] + value;
+				}
+			}
+		return divide(field, amplitudes(octaves, gain));
+	}
+
+	/** fills the given HeightField with {@link #warp(float, float, float, int, float, float) domain-warped} noise
+	 *  @see #fillFbm(HeightField, float, float, float, int, float, float) */
+	public HeightField fillWarped(HeightField field, float x, float y, float step, float strength, int octaves, float lacunarity, float gain) {
+		float[] data = field.data;
+		for(int fx = 0; fx < field.width; fx++) {
+			float sx = x + fx * step;
+			for(int i = field.offset + fx * field.stride, fy = 0; fy < field.height; i++, fy++)
+				data[i] = warp(sx, y + fy * step, strength, octaves, lacunarity, gain);
+		}
+		return field;
+	}
+
+	/** @return the {@link #seed} */
+	public long getSeed() {
+		return seed;
+	}
+
+	/** @return the largest integer less than or equal to the given value, faster than {@link Math#floor(double)} */
+	private static int floor(float value) {
+		int i = (int) value;
+		return value < i ? i - 1 : i;
+	}
+
+	/** @return the value of one octave of {@link #ridged(float, float, int, float, float) ridged} noise */
+	private static float ridge(float noise) {
+		noise = 1 - Math.abs(noise);
+		return noise * noise;
+	}
+
+	/** @return the sum of the amplitudes of the given number of octaves */
+	private static float amplitudes(int octaves, float gain) {
+		float sum = 0, amplitude = 1;
+		for(int o = 0; o < octaves; o++, amplitude *= gain)
+			sum += amplitude;
+		return sum;
+	}
+
+	/** divides every value of the given HeightField by the given divisor, like the single point methods do */
+	private static HeightField divide(HeightField field, float divisor) {
+		float[] data = field.data;
+		for(int x = 0; x < field.width; x++)
+			for(int i = field.offset + x * field.stride, n = i + field.height; i < n; i++)
+				data[i] /= divisor;
+		return field;
+	}
+
+	private static void checkOctaves(int octaves) {
+		if(octaves < 1)
+			throw new IllegalArgumentException("octaves must be at least 1: " + octaves);
+	}
+
+}
@@ -4,8 +4,11 @@ import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.FloatArray;
 import com.badlogic.gdx.utils.IntArray;
 import net.dermetfan.gdx.utils.ArrayUtils;
+import net.dermetfan.utils.IndexView;
 import org.junit.Test;
 
+import java.util.Random;
+
 import static org.junit.Assert.*;
 
 public class ArrayUtilsTest {
@@ -27,4 +30,48 @@ public class ArrayUtilsTest {
 		assertEquals(new Array<>(new String[] {"2", "8"}), ArrayUtils.skipselect(new Array<>(new String[] {"0", "1", "2", "3", "4", "5", "6", "7", "8", "9", "10"}), 2, 5));
 	}
 
+	@Test
+	public void selectView() {
+		Array<Integer> items = numbers(20);
+		for(int offset = 0; offset < 5; offset++)
+			for(int start = -3; start < 6; start++)
+				for(int everyXth = 1; everyXth < 5; everyXth++) {
+					assertSameElements(ArrayUtils.select(items, offset, items.size - offset, start, everyXth), ArrayUtils.selectView(items, offset, items.size - offset, start, everyXth));
+					assertSameElements(ArrayUtils.select(items, start, everyXth), ArrayUtils.selectView(items, start, everyXth));
+				}
+	}
+
+	@Test
+	public void skipselectView() {
+		Array<Integer> items = numbers(30);
+		Random random = new Random(3);
+		for(int i = 0; i < 1000; i++) {
+			IntArray skips = random.nextInt(5) == 0 ? null : skips(random), repeatSkips = random.nextInt(3) == 0 ? null : skips(random);
+			assertSameElements(ArrayUtils.skipselect(items, skips, repeatSkips), ArrayUtils.skipselectView(items, skips, repeatSkips));
+		}
+		for(int firstSkip = 0; firstSkip < 32; firstSkip++)
+			for(int skips = 0; skips < 6; skips++)
+				assertSameElements(ArrayUtils.skipselect(items, firstSkip, skips), ArrayUtils.skipselectView(items, firstSkip, skips));
+	}
+
+	private static Array<Integer> numbers(int count) {
+		Array<Integer> numbers = new Array<>(count);
+		for(int i = 0; i < count; i++)
+			numbers.add(i);
+		return numbers;
+	}
+
+	private static IntArray skips(Random random) {
+		IntArray skips = new IntArray();
+		for(int i = random.nextInt(4); i > 0; i--)
+			skips.add(random.nextInt(4));
+		return skips;
+	}
+
+	private static <T> void assertSameElements(Array<T> expected, IndexView<T> actual) {
+		assertEquals(expected.size, actual.size());
+		for(int i = 0; i < expected.size; i++)
+			assertSame(expected.get(i), actual.get(i));
+	}
+
 }
@@ -0,0 +1,47 @@
+package net.dermetfan.gdx;
+
+import net.dermetfan.utils.Allocations;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class TypewriterTest {
+
+	@Test
+	public void type() {
+		Typewriter typewriter = new Typewriter("_", true, true);
+		typewriter.setCharsPerSecond(2);
+		assertEquals("_", typewriter.type("abc").toString());
+		assertEquals("a_", typewriter.updateAndType("abc", .5f).toString());
+		typewriter.setCursorWhileTyping(false);
+		assertEquals("ab", typewriter.updateAndType("abc", .5f).toString());
+		assertEquals("abc_", typewriter.updateAndType("abc", .5f).toString());
+		typewriter.setCursorAfterTyping(false);
+		assertEquals("abc", typewriter.type("abc").toString());
+	}
+
+	@Test
+	public void typeInto() {
+		Typewriter typewriter = new Typewriter("_", true, false);
+		typewriter.setCharsPerSecond(2);
+		StringBuilder out = new StringBuilder("old");
+		assertEquals("a_", typewriter.updateAndType("abc", .5f, out).toString());
+		assertEquals(typewriter.type("abc").toString(), typewriter.type("abc", out).toString());
+		typewriter.setTime(10);
+		assertEquals("abc", typewriter.type("abc", out).toString());
+	}
+
+	@Test
+	public void updateAndTypeAllocation() {
+		Typewriter typewriter = new Typewriter(true, true);
+		typewriter.setCharsPerSecond(1000);
+		String text = "The quick brown fox jumps over the lazy dog.";
+		StringBuilder out = new StringBuilder(text.length() + 1);
+		Allocations.assertNoAllocation("Typewriter#updateAndType", () -> {
+			if(typewriter.getTime() > 1)
+				typewriter.setTime(0);
+			typewriter.updateAndType(text, 1 / 60f, out);
+		});
+	}
+
+}
@@ -5,6 +5,7 @@ import com.badlogic.gdx.math.Polygon;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.FloatArray;
+import net.dermetfan.utils.Allocations;
 import org.junit.Test;
 
 import static org.junit.Assert.assertArrayEquals;
@@ -111,7 +112,7 @@ public class GeometryUtilsTest {
 		GeometryUtils.sortPoints(points, false);
 		assertArrayEquals(new float[] {0, 0, 0, 0, .75f, 2, 1, 0, 1.5f, 2.5f, 2, .5f, 2.5f, 2}, points, 0);
 		GeometryUtils.sortPoints(points, true);
-		assertArrayEquals(new float[] {0, 0, 1, 0, 0, 0, 2, .5f, 2.5f, 2, .75f, 2, 1.5f, 2.5f}, points, 0);
+		assertArrayEquals(new float[] {0, 0, 0, 0, 1, 0, 2, .5f, .75f, 2, 2.5f, 2, 1.5f, 2.5f}, points, 0);
 
 		points = new float[] {9, 9, 3, 3, 2, 4, 4, 2, 1, 5, 5, 1, 9, 9};
 		GeometryUtils.sortPoints(points, 2, points.length - 4, false);
@@ -135,6 +136,26 @@ public class GeometryUtilsTest {
 		assertArrayEquals(new float[] {9, 9, 0, 0, 1, 0, 1.25f, 1, .75f, 1.25f, 9, 9}, vertices, 0);
 	}
 
+	@Test
+	public void triangulate() {
+		float[][] triangles = GeometryUtils.triangulate(new float[] {9, 9, 0, 0, 1, 0, 1, 1, 0, 1}, 2, 8, new GeometryContext());
+		assertEquals(2, triangles.length);
+		for(float[] triangle : triangles)
+			for(float coordinate : triangle)
+				assertTrue(coordinate == 0 || coordinate == 1);
+	}
+
+	@Test
+	public void decompose() {
+		float[] concave = {0, 0, 2, 0, 2, 2, 1, 1, 0, 2};
+		float area = 0;
+		for(float[] convex : GeometryUtils.decompose(concave, 0, concave.length, new GeometryContext())) {
+			assertTrue(GeometryUtils.isConvex(convex));
+			area += Math.abs(GeometryUtils.polygonArea(convex, 0, convex.length));
+		}
+		assertEquals(3, area, .00001f);
+	}
+
 	@Test
 	public void keepWithin() {
 		assertEquals(new Vector2(0, 0), GeometryUtils.keepWithin(5, 5, 5, 5, 0, 0, 5, 5));
@@ -163,4 +184,12 @@ public class GeometryUtilsTest {
 		assertEquals(.5f, intersections.get(3), 0);
 	}
 
+	@Test
+	public void intersectSegmentsAllocation() {
+		float[] polygon = {0, 0, 1, 0, 1, 1, 0, 1};
+		FloatArray intersections = new FloatArray();
+		Allocations.assertNoAllocation("GeometryUtils#intersectSegments", () -> GeometryUtils.intersectSegments(-1, .5f, 2, .5f, polygon, 0, polygon.length, true, intersections));
+		Allocations.assertNoAllocation("GeometryUtils#intersectSegmentConvexPolygon", () -> GeometryUtils.intersectSegmentConvexPolygon(-1, .5f, 2, .5f, polygon, 0, polygon.length, null, null));
+	}
+
 }
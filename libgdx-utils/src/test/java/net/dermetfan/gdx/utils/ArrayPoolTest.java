@@ -1,8 +1,17 @@
 package net.dermetfan.gdx.utils;
 
+import java.util.concurrent.atomic.AtomicReference;
+
+import com.badlogic.gdx.utils.Array;
+import net.dermetfan.utils.Allocations;
 import org.junit.Test;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 public class ArrayPoolTest {
 
@@ -46,4 +55,218 @@ public class ArrayPoolTest {
 		assertEquals(pool.getFree(1), 0);
 	}
 
+	@Test
+	public void unlimited() {
+		FloatArrayPool pool = new FloatArrayPool(-1, 2);
+		float[] array = pool.obtain(3);
+		pool.free(array);
+		assertEquals(1, pool.getFree(3));
+		assertSame(array, pool.obtain(3));
+	}
+
+	@Test
+	public void stats() {
+		IntArrayPool pool = new IntArrayPool(-1, 1);
+		ArrayPoolStats stats = pool.getStats(new ArrayPoolStats());
+		assertEquals(0, stats.obtains);
+		pool.setStatsEnabled(true);
+		int[] a = pool.obtain(10), b = pool.obtain(10);
+		pool.free(a);
+		pool.free(b); // dropped, maxEach is 1
+		assertSame(a, pool.obtain(10));
+		pool.free(a);
+		pool.getStats(stats);
+		assertEquals(3, stats.obtains);
+		assertEquals(1, stats.hits);
+		assertEquals(2, stats.misses);
+		assertEquals(3, stats.frees);
+		assertEquals(1, stats.drops);
+		assertEquals(1, stats.retained);
+		assertEquals(40, stats.retainedBytes);
+		assertEquals(1, stats.highWaterRetained);
+		assertEquals(1, stats.retainedArrays.get(10, 0));
+		assertEquals(40, (long) stats.retainedArrayBytes.get(10));
+		assertEquals(1 / 3f, stats.getHitRate(), 0);
+		pool.resetStats();
+		pool.getStats(stats);
+		assertEquals(0, stats.obtains);
+		assertEquals(1, stats.highWaterRetained);
+	}
+
+	@Test
+	public void primitives() {
+		short[] shorts = ArrayPools.obtainShorts(6);
+		byte[] bytes = ArrayPools.obtainBytes(7);
+		long[] longs = ArrayPools.obtainLongs(8);
+		double[] doubles = ArrayPools.obtainDoubles(9);
+		ArrayPools.free(shorts);
+		ArrayPools.free(bytes);
+		ArrayPools.free(longs);
+		ArrayPools.free(doubles);
+		assertSame(shorts, ArrayPools.obtainShorts(6));
+		assertSame(bytes, ArrayPools.obtainBytes(7));
+		assertSame(longs, ArrayPools.obtainLongs(8));
+		assertSame(doubles, ArrayPools.obtainDoubles(9));
+		assertEquals(16, doubles.length); // size classes
+		assertEquals(128, SizeClassArrayPool.doubles(1).bytes(doubles));
+	}
+
+	@Test
+	public void primitivesBudget() {
+		SizeClassArrayPool<byte[]> pool = ArrayPools.getBytes();
+		assertEquals(ArrayPools.maxBytes, pool.getMaxBytes());
+		byte[] large = new byte[(int) ArrayPools.maxBytes * 2];
+		assertFalse(pool.offer(large));
+		assertEquals(0, pool.getFree(large.length));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void primitiveType() {
+		ArrayPools.obtain(short.class, 4);
+	}
+
+	@Test
+	public void maxBytes() {
+		IntArrayPool pool = new IntArrayPool(-1, 4);
+		pool.setStatsEnabled(true);
+		pool.setMaxBytes(100);
+		int[] a = pool.obtain(10), c = pool.obtain(10), b = pool.obtain(5);
+		pool.free(a);
+		pool.free(c);
+		pool.obtain(1);
+		pool.free(b);
+		assertEquals(100, pool.getRetainedBytes());
+		pool.free(pool.obtain(2)); // evicts the oldest array of the least recently used length
+		assertEquals(68, pool.getRetainedBytes());
+		assertEquals(1, pool.getFree(10));
+		assertSame(c, pool.obtain(10));
+		assertEquals(1, pool.getStats(new ArrayPoolStats()).evictions);
+		assertFalse(pool.offer(new int[30]));
+		pool.trim(0);
+		assertEquals(0, pool.getRetained());
+		assertEquals(0, pool.getRetainedBytes());
+	}
+
+	@Test
+	public void trimUnlimited() {
+		IntArrayPool pool = new IntArrayPool(-1, 4);
+		pool.trim(-1);
+		pool.free(new int[10]);
+		pool.trim(-1);
+		assertEquals(1, pool.getRetained());
+		pool.setMaxBytes(-1);
+		pool.trim();
+		assertEquals(40, pool.getRetainedBytes());
+	}
+
+	@Test
+	public void leastRecentlyUsed() {
+		IntArrayPool pool = new IntArrayPool(-1, 4);
+		pool.free(new int[10]);
+		pool.free(new int[11]);
+		pool.free(new int[12]);
+		pool.setMaxBytes(pool.getRetainedBytes());
+		pool.free(pool.obtain(10)); // 11 is the least recently used length now
+		pool.free(new int[1]);
+		assertEquals(0, pool.getFree(11));
+		assertEquals(1, pool.getFree(10));
+		assertEquals(1, pool.getFree(12));
+		assertEquals(1, pool.getFree(1));
+	}
+
+	@Test
+	public void maxIdle() {
+		FloatArrayPool pool = new FloatArrayPool(-1, 4);
+		pool.setMaxIdle(2);
+		pool.free(pool.obtain(10));
+		pool.obtain(3);
+		pool.obtain(3);
+		assertEquals(1, pool.getFree(10));
+		pool.obtain(3);
+		pool.trim();
+		assertEquals(0, pool.getFree(10));
+		assertEquals(0, pool.getRetained());
+	}
+
+	@Test
+	public void tracking() {
+		IntArrayPool pool = new IntArrayPool(-1, 4), other = new IntArrayPool(-1, 4);
+		pool.setTracking(true);
+		other.setTracking(true);
+		int[] a = pool.obtain(4), b = pool.obtain(4);
+		assertEquals(2, pool.getLoans());
+		pool.free(a);
+		try {
+			pool.free(a);
+			fail("double free not detected");
+		} catch(IllegalStateException e) {
+			// expected
+		}
+		try {
+			other.free(b);
+			fail("wrong pool not detected");
+		} catch(IllegalStateException e) {
+			assertEquals("array of length 4 obtained here", e.getCause().getMessage());
+		}
+		Array<Throwable> callSites = pool.getLoans(new Array<Throwable>());
+		assertEquals(1, callSites.size);
+		boolean caller = false;
+		for(StackTraceElement element : callSites.first().getStackTrace())
+			caller |= element.getMethodName().equals("tracking");
+		assertTrue(caller);
+		pool.free(new int[4]); // not obtained from any pool
+		pool.setTracking(false);
+		other.setTracking(false);
+		pool.free(a); // not detected without tracking
+		assertEquals(0, pool.getLoans());
+	}
+
+	@Test
+	public void trackingThreads() throws InterruptedException {
+		final AtomicReference<Throwable> failure = new AtomicReference<>();
+		Thread[] threads = new Thread[2];
+		for(int t = 0; t < threads.length; t++) {
+			threads[t] = new Thread(() -> {
+				FloatArrayPool pool = new FloatArrayPool(-1, 4);
+				pool.setTracking(true);
+				try {
+					for(int i = 0; i < 20000; i++)
+						pool.free(pool.obtain(i % 7));
+					assertEquals(0, pool.getLoans());
+				} catch(Throwable e) {
+					failure.compareAndSet(null, e);
+				} finally {
+					pool.setTracking(false);
+				}
+			});
+			threads[t].start();
+		}
+		for(Thread thread : threads)
+			thread.join();
+		assertNull(failure.get());
+	}
+
+	@Test
+	public void obtainFreeAllocation() {
+		ArrayPool<String> pool = new ArrayPool<String>(10, 4) {
+			@Override
+			protected String[] newArray(int length) {
+				return new String[length];
+			}
+		};
+		Allocations.assertNoAllocation("ArrayPool#obtain/free", () -> {
+			String[] a = pool.obtain(16), b = pool.obtain(32);
+			pool.free(a);
+			pool.free(b);
+		});
+
+		FloatArrayPool floatPool = new FloatArrayPool(10, 4);
+		floatPool.setStatsEnabled(true);
+		Allocations.assertNoAllocation("FloatArrayPool#obtain/free", () -> {
+			float[] a = floatPool.obtain(16), b = floatPool.obtain(32);
+			floatPool.free(a);
+			floatPool.free(b);
+		});
+	}
+
 }
@@ -0,0 +1,69 @@
+package net.dermetfan.gdx.utils;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+public class ConcurrentArrayPoolTest {
+
+	@Test
+	public void magazine() {
+		ConcurrentArrayPool<float[]> pool = ConcurrentArrayPool.floats(-1, 100, 2);
+		float[] a = pool.obtain(8), b = pool.obtain(8), c = pool.obtain(8);
+		pool.free(a);
+		pool.free(b);
+		pool.free(c); // overflows into the shared pool
+		assertEquals(3, pool.getFree(8));
+		assertSame(b, pool.obtain(8));
+		assertSame(a, pool.obtain(8));
+		assertSame(c, pool.obtain(8));
+		assertEquals(0, pool.getFree(8));
+	}
+
+	@Test
+	public void shared() throws InterruptedException {
+		final ConcurrentArrayPool<int[]> pool = ConcurrentArrayPool.ints(-1, 100, 0);
+		final int[] array = pool.obtain(4);
+		Thread thread = new Thread(() -> pool.free(array));
+		thread.start();
+		thread.join();
+		assertSame(array, pool.obtain(4));
+	}
+
+	@Test
+	public void noArrayIsHandedOutTwice() throws InterruptedException {
+		final ConcurrentArrayPool<int[]> pool = ConcurrentArrayPool.ints(-1, 16, 4);
+		final AtomicReference<Throwable> failure = new AtomicReference<>();
+		Thread[] threads = new Thread[4];
+		for(int i = 0; i < threads.length; i++) {
+			final int id = i + 1;
+			threads[i] = new Thread(() -> {
+				try {
+					int[][] arrays = new int[8][];
+					for(int run = 0; run < 20000; run++) {
+						for(int j = 0; j < arrays.length; j++) {
+							arrays[j] = pool.obtain(16);
+							arrays[j][0] = id;
+						}
+						Thread.yield();
+						for(int j = 0; j < arrays.length; j++) {
+							assertEquals("an array was obtained by two threads at once", id, arrays[j][0]);
+							pool.free(arrays[j]);
+						}
+					}
+				} catch(Throwable t) {
+					failure.compareAndSet(null, t);
+				}
+			});
+			threads[i].start();
+		}
+		for(Thread thread : threads)
+			thread.join();
+		assertNull(failure.get());
+	}
+
+}
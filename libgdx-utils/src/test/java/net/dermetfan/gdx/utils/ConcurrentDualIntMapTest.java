@@ -0,0 +1,92 @@
+package net.dermetfan.gdx.utils;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class ConcurrentDualIntMapTest {
+
+	@Test
+	public void putRemove() {
+		ConcurrentDualIntMap<String> map = new ConcurrentDualIntMap<>();
+		map.put(1000, "a");
+		map.put(2000, "b");
+		map.put(1000, "b"); // removes 2000 and the old value of 1000
+		assertFalse(map.containsKey(2000));
+		assertFalse(map.containsValue("a"));
+		assertEquals(1000, map.getKey("b", -1));
+		assertEquals(1, map.getSize());
+		assertEquals(1000, map.removeValue("b", -1));
+		assertNull(map.getValue(1000));
+	}
+
+	@Test
+	public void readersSeeBothDirections() throws InterruptedException {
+		final ConcurrentDualIntMap<String> map = new ConcurrentDualIntMap<>(4);
+		final int count = 200000;
+		final AtomicReference<Throwable> failure = new AtomicReference<>();
+		Thread writer = new Thread(() -> {
+			for(int key = 0; key < count; key++)
+				map.put(key, "v" + key);
+		});
+		Thread reader = new Thread(() -> {
+			try {
+				while(writer.isAlive())
+					for(int key = map.getSize(), end = Math.max(0, key - 64); key >= end; key--) {
+						String value = map.getValue(key);
+						if(value != null)
+							assertEquals(key, map.getKey(value, -1));
+					}
+			} catch(Throwable t) {
+				failure.compareAndSet(null, t);
+			}
+		});
+		writer.start();
+		reader.start();
+		writer.join();
+		reader.join();
+		assertNull(failure.get());
+		assertEquals(count, map.getSize());
+	}
+
+	@Test
+	public void readsDuringResize() throws InterruptedException {
+		final ConcurrentDualIntMap<String> map = new ConcurrentDualIntMap<>(0);
+		final int stable = 64;
+		for(int key = 0; key < stable; key++)
+			map.put(key, "v" + key);
+		final AtomicReference<Throwable> failure = new AtomicReference<>();
+		Thread writer = new Thread(() -> {
+			for(int run = 0; run < 20; run++) {
+				for(int key = stable; key < 20000; key++)
+					map.put(key, "v" + key); // grows the tables many times
+				for(int key = stable; key < 20000; key++)
+					map.removeKey(key); // moves entries back and forth
+			}
+		});
+		Thread reader = new Thread(() -> {
+			try {
+				while(writer.isAlive())
+					for(int key = 0; key < stable; key++) {
+						assertEquals("v" + key, map.getValue(key));
+						assertEquals(key, map.getKey("v" + key, -1));
+						assertTrue(map.containsValue("v" + key));
+					}
+			} catch(Throwable t) {
+				failure.compareAndSet(null, t);
+			}
+		});
+		writer.start();
+		reader.start();
+		writer.join();
+		reader.join();
+		assertNull(failure.get());
+		assertEquals(stable, map.getSize());
+	}
+
+}
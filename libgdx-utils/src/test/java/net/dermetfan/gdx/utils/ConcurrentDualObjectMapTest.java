@@ -0,0 +1,56 @@
+package net.dermetfan.gdx.utils;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+
+public class ConcurrentDualObjectMapTest {
+
+	@Test
+	public void putRemove() {
+		ConcurrentDualObjectMap<String, Integer> map = new ConcurrentDualObjectMap<>();
+		map.put("a", 1);
+		map.put("b", 2);
+		map.put("a", 2); // removes b and the old value of a
+		assertFalse(map.containsKey("b"));
+		assertFalse(map.containsValue(1));
+		assertEquals("a", map.getKey(2));
+		assertEquals(1, map.getSize());
+		assertEquals("a", map.removeValue(2));
+		assertNull(map.getValue("a"));
+	}
+
+	@Test
+	public void readersSeeBothDirections() throws InterruptedException {
+		final ConcurrentDualObjectMap<Integer, String> map = new ConcurrentDualObjectMap<>();
+		final int count = 200000;
+		final AtomicReference<Throwable> failure = new AtomicReference<>();
+		Thread writer = new Thread(() -> {
+			for(int key = 0; key < count; key++)
+				map.put(key, "v" + key);
+		});
+		Thread reader = new Thread(() -> {
+			try {
+				while(writer.isAlive())
+					for(int key = map.getSize(), end = Math.max(0, key - 64); key >= end; key--) {
+						String value = map.getValue(key);
+						if(value != null)
+							assertEquals(Integer.valueOf(key), map.getKey(value));
+					}
+			} catch(Throwable t) {
+				failure.compareAndSet(null, t);
+			}
+		});
+		writer.start();
+		reader.start();
+		writer.join();
+		reader.join();
+		assertNull(failure.get());
+		assertEquals(count, map.getSize());
+	}
+
+}
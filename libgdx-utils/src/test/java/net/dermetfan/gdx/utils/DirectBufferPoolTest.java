@@ -0,0 +1,35 @@
+package net.dermetfan.gdx.utils;
+
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class DirectBufferPoolTest {
+
+	@Test
+	public void obtainFree() {
+		DirectBufferPool<FloatBuffer> pool = DirectBufferPool.floatBuffers(2);
+		FloatBuffer buffer = pool.obtain(6);
+		assertTrue(buffer.isDirect());
+		assertEquals(ByteOrder.nativeOrder(), buffer.order());
+		assertEquals(8, buffer.capacity());
+		assertEquals(6, buffer.limit());
+		buffer.put(new float[] {1, 2, 3}).flip();
+		pool.free(buffer);
+		assertEquals(32, pool.getRetainedBytes());
+		assertSame(buffer, pool.obtain(5));
+		assertEquals(0, buffer.position());
+		assertEquals(5, buffer.limit());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void heapBuffer() {
+		DirectBufferPool.floatBuffers(2).free(FloatBuffer.allocate(4));
+	}
+
+}
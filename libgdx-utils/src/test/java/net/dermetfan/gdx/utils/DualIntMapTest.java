@@ -0,0 +1,87 @@
+package net.dermetfan.gdx.utils;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+
+public class DualIntMapTest {
+
+	@Test
+	public void putReplaces() {
+		DualIntMap<String> map = new DualIntMap<>();
+		map.put(1, "a");
+		map.put(2, "b");
+		map.put(1, "c"); // replaces the value of the key
+		assertEquals(-1, map.getKey("a", -1));
+		assertEquals("c", map.getValue(1));
+		map.put(3, "b"); // replaces the key of the value
+		assertFalse(map.containsKey(2));
+		assertEquals(3, map.getKey("b", -1));
+		assertEquals(2, map.getSize());
+		assertEquals(3, map.removeValue("b", -1));
+		assertEquals("c", map.removeKey(1));
+		assertNull(map.removeKey(1));
+		assertEquals(0, map.getSize());
+	}
+
+	@Test
+	public void lowLoadFactor() {
+		DualIntMap<String> map = new DualIntMap<>(0, .2f);
+		for(int i = 0; i < 100; i++)
+			map.put(i, "v" + i);
+		assertEquals(100, map.getSize());
+		assertEquals("v0", map.getValue(0));
+		assertEquals(99, map.getKey("v99", -1));
+	}
+
+	@Test
+	public void random() {
+		DualIntMap<Integer> map = new DualIntMap<>(4);
+		Map<Integer, Integer> keyToValue = new HashMap<>(), valueToKey = new HashMap<>();
+		Random random = new Random(7);
+		for(int i = 0; i < 100000; i++) {
+			int key = random.nextInt(2000), value = random.nextInt(2000);
+			switch(random.nextInt(3)) {
+			case 0:
+				map.put(key, value);
+				Integer oldValue = keyToValue.remove(key), oldKey = valueToKey.remove(value);
+				if(oldValue != null)
+					valueToKey.remove(oldValue);
+				if(oldKey != null)
+					keyToValue.remove(oldKey);
+				keyToValue.put(key, value);
+				valueToKey.put(value, key);
+				break;
+			case 1:
+				Integer removed = keyToValue.remove(key);
+				if(removed != null)
+					valueToKey.remove(removed);
+				assertEquals(removed, map.removeKey(key));
+				break;
+			default:
+				Integer removedKey = valueToKey.remove(value);
+				if(removedKey != null)
+					keyToValue.remove(removedKey);
+				assertEquals(removedKey == null ? -1 : removedKey, map.removeValue(value, -1));
+			}
+		}
+		assertEquals(keyToValue.size(), map.getSize());
+		for(int i = 0; i < map.getSize(); i++) {
+			assertEquals(keyToValue.get(map.getKeyAt(i)), map.getValueAt(i));
+			assertEquals(map.getValueAt(i), map.getValue(map.getKeyAt(i)));
+			assertEquals(map.getKeyAt(i), map.getKey(map.getValueAt(i), -1));
+		}
+		DualIntMap<Integer> copy = new DualIntMap<>(map);
+		map.clear();
+		assertEquals(keyToValue.size(), copy.getSize());
+		for(Map.Entry<Integer, Integer> entry : keyToValue.entrySet())
+			assertEquals(entry.getValue(), copy.getValue(entry.getKey()));
+	}
+
+}
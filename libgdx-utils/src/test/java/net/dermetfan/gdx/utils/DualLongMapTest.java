@@ -0,0 +1,21 @@
+package net.dermetfan.gdx.utils;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class DualLongMapTest {
+
+	@Test
+	public void addresses() {
+		DualLongMap<String> map = new DualLongMap<>();
+		long address = 0x7f3a_0000_1000L;
+		for(int i = 0; i < 1000; i++)
+			map.put(address + i * 16L, "body" + i);
+		assertEquals("body500", map.getValue(address + 500 * 16L));
+		assertEquals(address + 999 * 16L, map.getKey("body999", 0));
+		assertEquals("body0", map.removeKey(address));
+		assertEquals(999, map.getSize());
+	}
+
+}
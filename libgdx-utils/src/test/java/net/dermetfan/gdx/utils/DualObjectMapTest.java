@@ -0,0 +1,30 @@
+package net.dermetfan.gdx.utils;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class DualObjectMapTest {
+
+	@Test
+	public void putRemove() {
+		DualObjectMap<String, Integer> map = new DualObjectMap<>(0);
+		for(int i = 0; i < 100; i++)
+			map.put("key" + i, i);
+		assertEquals(100, map.getSize());
+		assertEquals(42, (int) map.getValue("key42"));
+		assertEquals("key42", map.getKey(42));
+		assertEquals("key42", map.removeValue(42));
+		assertFalse(map.containsKey("key42"));
+		assertEquals(7, (int) map.removeKey("key7"));
+		assertFalse(map.containsValue(7));
+		map.put("key8", 9); // removes key9 and the old value of key8
+		assertFalse(map.containsKey("key9"));
+		assertFalse(map.containsValue(8));
+		assertEquals(97, map.getSize());
+		assertTrue(map.getKeyToValue().size == 97);
+	}
+
+}
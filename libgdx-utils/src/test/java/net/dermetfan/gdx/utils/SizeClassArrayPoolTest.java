@@ -0,0 +1,61 @@
+package net.dermetfan.gdx.utils;
+
+import net.dermetfan.utils.Allocations;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+public class SizeClassArrayPoolTest {
+
+	@Test
+	public void sizeClasses() {
+		SizeClassArrayPool<float[]> pool = SizeClassArrayPool.floats(4);
+		assertEquals(0, pool.obtain(0).length);
+		assertEquals(1, pool.obtain(1).length);
+		assertEquals(16, pool.obtain(16).length);
+		float[] array = pool.obtain(17);
+		assertEquals(32, array.length);
+		pool.free(array);
+		for(int length = 17; length <= 32; length++)
+			assertEquals(1, pool.getFree(length));
+		assertSame(array, pool.obtain(20));
+		pool.free(array);
+		assertSame(array, pool.obtain(32));
+	}
+
+	@Test
+	public void bestFit() {
+		SizeClassArrayPool<String[]> pool = SizeClassArrayPool.of(String.class, 4);
+		String[] array = new String[17];
+		pool.free(array);
+		assertSame(array, pool.obtain(16));
+		pool.free(array);
+		assertSame(array, pool.obtain(17));
+		pool.free(array);
+		assertNotSame(array, pool.obtain(18));
+	}
+
+	@Test
+	public void maxEach() {
+		SizeClassArrayPool<int[]> pool = SizeClassArrayPool.ints(2);
+		pool.free(new int[8]);
+		pool.free(new int[9]);
+		pool.free(new int[15]);
+		assertEquals(2, pool.getFree(8));
+		pool.clear();
+		assertEquals(0, pool.getFree(8));
+	}
+
+	@Test
+	public void obtainFreeAllocation() {
+		SizeClassArrayPool<float[]> pool = SizeClassArrayPool.floats(4);
+		Allocations.assertNoAllocation("SizeClassArrayPool#obtain/free", () -> {
+			float[] a = pool.obtain(15), b = pool.obtain(100);
+			pool.free(a);
+			pool.free(b);
+		});
+	}
+
+}
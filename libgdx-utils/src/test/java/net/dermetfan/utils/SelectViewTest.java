@@ -0,0 +1,87 @@
+package net.dermetfan.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import net.dermetfan.utils.IndexView.FloatCursor;
+import net.dermetfan.utils.IndexView.IntCursor;
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+public class SelectViewTest {
+
+	private static final Integer[] items = ArrayUtils.box(new int[] {0, 1, 2, 3, 4, 5, 6, 7, 8, 9});
+
+	@Test
+	public void select() {
+		SelectView<Integer> view = new SelectView<>();
+		for(int offset = 0; offset < items.length; offset++)
+			for(int length = 0; offset + length <= items.length; length++)
+				for(int start = -3; start < 12; start++)
+					for(int everyXth = 1; everyXth < 4; everyXth++) {
+						Object[] selected = ArrayUtils.select(items, offset, length, start, everyXth);
+						view.set(items, offset, length, start, everyXth);
+						assertEquals(selected.length, view.size());
+						for(int i = 0; i < selected.length; i++)
+							assertEquals(selected[i], view.get(i));
+					}
+	}
+
+	@Test
+	public void iterator() {
+		List<Integer> list = new ArrayList<>();
+		for(Integer item : new SelectView<>(items, 1, 3))
+			list.add(item);
+		assertArrayEquals(new Integer[] {0, 3, 6, 9}, list.toArray());
+	}
+
+	@Test
+	public void skipselect() {
+		SkipSelectView<Integer> view = new SkipSelectView<>(items, new int[] {1, 0}, new int[] {2});
+		assertEquals(4, view.size());
+		assertEquals(1, (int) view.get(0));
+		assertEquals(2, (int) view.get(1));
+		assertEquals(5, (int) view.get(2));
+		assertEquals(8, (int) view.get(3));
+
+		view.set(items, 2, 8, new int[] {0}, 1, null, 0);
+		assertEquals(1, view.size());
+		assertEquals(2, (int) view.get(0));
+
+		view.set(items, 0, 10, new int[] {}, 0, new int[] {0, 2}, 2);
+		assertEquals(5, view.size());
+		assertEquals(8, (int) view.get(4));
+
+		view.set(items, 0, 10, null, 0, null, 0);
+		assertEquals(10, view.size());
+		assertEquals(7, (int) view.get(7));
+	}
+
+	@Test
+	public void cursors() {
+		float[] vertices = {0, 1, 2, 3, 4, 5};
+		SelectView<?> xs = new SelectView<>().set(0, vertices.length, 1, 2);
+		FloatCursor cursor = new FloatCursor(vertices, xs);
+		assertEquals(3, cursor.size());
+		assertEquals(0, cursor.next(), 0);
+		assertEquals(2, cursor.next(), 0);
+		assertEquals(4, cursor.next(), 0);
+		assertFalse(cursor.hasNext());
+		cursor.reset();
+		assertEquals(0, cursor.next(), 0);
+		assertEquals(4, cursor.get(2), 0);
+
+		IntCursor ints = new IntCursor(new int[] {5, 6, 7}, new SkipSelectView<>().set(0, 3, new int[] {2}, 1, null, 0));
+		assertEquals(1, ints.size());
+		assertEquals(7, ints.next());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void cursorTooShort() {
+		new FloatCursor(new float[3], new SelectView<>().set(0, 5, 1, 2));
+	}
+
+}
@@ -1,5 +1,8 @@
 package net.dermetfan.utils.math;
 
+import java.util.Arrays;
+import java.util.Random;
+
 import org.junit.Before;
 import org.junit.Test;
 
@@ -106,6 +109,64 @@ public class GeometryUtilsTest {
 		assertEquals(100, GeometryUtils.maxY(vertices), floatRoundingError);
 	}
 
+	@Test
+	public void largeVertices() {
+		float[] vertices = new float[GeometryUtils.getFloats().length * 4];
+		for(int i = 0; i < vertices.length; i += 2) {
+			vertices[i] = i;
+			vertices[i + 1] = -i;
+		}
+		assertEquals(0, GeometryUtils.minX(vertices), 0);
+		assertEquals(vertices.length - 2, GeometryUtils.maxX(vertices), 0);
+		assertEquals(-(vertices.length - 2), GeometryUtils.minY(vertices), 0);
+		assertEquals(0, GeometryUtils.maxY(vertices), 0);
+		assertEquals(vertices.length - 2, GeometryUtils.height(vertices), 0);
+		GeometryUtils.scale(vertices, 0, 0, 1, 1);
+		assertEquals(1, GeometryUtils.width(vertices), 0);
+		assertEquals(0, GeometryUtils.minY(vertices), 0);
+	}
+
+	@Test
+	public void context() {
+		float[] points = new float[GeometryUtils.getFloats().length * 2];
+		for(int i = 0; i < points.length; i += 2) {
+			points[i] = (i * 7919) % points.length;
+			points[i + 1] = i;
+		}
+		float[] shared = points.clone();
+		GeometryUtils.sortPoints(shared, false);
+		GeometryContext context = new GeometryContext(0);
+		GeometryUtils.sortPoints(points, 0, points.length, false, context);
+		assertArrayEquals(shared, points, 0);
+		for(int i = 2; i < points.length; i += 2)
+			assertTrue(points[i - 2] <= points[i]);
+		assertTrue(context.getFloats().length >= points.length);
+	}
+
+	@Test
+	public void convexHull() {
+		float[] hull = new float[32];
+		// a square with an inner point, duplicates and collinear points on its edges
+		float[] points = {9, 9, 1, 1, 0, 0, 2, 0, .5f, .5f, 2, 2, 0, 2, 0, 0, 2, 1, 1, 0, 9, 9};
+		assertEquals(8, GeometryUtils.convexHull(points, 2, points.length - 4, hull));
+		assertArrayEquals(new float[] {0, 0, 2, 0, 2, 2, 0, 2}, Arrays.copyOf(hull, 8), 0);
+		assertEquals(4, GeometryUtils.convexHull(new float[] {0, 0, 1, 1, 2, 2}, hull));
+		assertArrayEquals(new float[] {0, 0, 2, 2}, Arrays.copyOf(hull, 4), 0);
+
+		points = new float[600];
+		Random random = new Random(5);
+		for(int i = 0; i < points.length; i++)
+			points[i] = random.nextInt(50);
+		hull = new float[points.length];
+		int length = GeometryUtils.convexHull(points, 0, points.length, hull, new GeometryContext(0));
+		for(int i = 0; i < length; i += 2) {
+			float x1 = hull[i], y1 = hull[i + 1], x2 = hull[(i + 2) % length], y2 = hull[(i + 3) % length];
+			for(int ii = 0; ii < points.length; ii += 2)
+				assertTrue(MathUtils.det(x1, y1, x2, y2, points[ii], points[ii + 1]) >= 0);
+			assertTrue(MathUtils.det(x1, y1, x2, y2, hull[(i + 4) % length], hull[(i + 5) % length]) > 0);
+		}
+	}
+
 	@Test
 	public void reverse() {
 		assertArrayEquals(new float[] {4, 4, 3, 3, 2, 2, 1, 1, 0, 0}, GeometryUtils.reverse(new float[] {0, 0, 1, 1, 2, 2, 3, 3, 4, 4}), 0);
@@ -0,0 +1,66 @@
+package net.dermetfan.utils.math;
+
+import java.io.IOException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+public class MappedHeightFieldTest {
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	@Test
+	public void diamondSquare() throws IOException {
+		int width = Noise.size(7, 2), height = Noise.size(7, 1);
+		for(int wrap = 0; wrap < 4; wrap++) {
+			boolean wrapX = (wrap & 1) != 0, wrapY = (wrap & 2) != 0;
+			Path file = folder.newFile().toPath(); // a mapped file must not be truncated, so each case needs its own
+			HeightField expected = ParallelNoise.diamondSquare(7, 1.5f, 2, wrapX, wrapY, 42, new HeightField(width, height), null);
+			try(MappedHeightField field = MappedHeightField.create(file, width, height)) {
+				MappedHeightField.diamondSquare(7, 1.5f, 2, wrapX, wrapY, 42, field);
+				field.force();
+			}
+			try(MappedHeightField field = MappedHeightField.open(file, false)) {
+				assertEquals(width, field.width);
+				assertEquals(height, field.height);
+				assertArrayEquals(expected.data, field.copyTo(0, 0, new HeightField(width, height)).data, 0);
+			}
+		}
+	}
+
+	@Test
+	public void copyTo() throws IOException {
+		try(MappedHeightField field = MappedHeightField.create(folder.newFile().toPath(), 100, 70)) {
+			for(int x = 0; x < field.width; x++)
+				for(int y = 0; y < field.height; y++)
+					field.set(x, y, x * 1000 + y);
+			HeightField region = field.copyTo(60, 5, new HeightField(new float[20 * 40], 2, 10, 30, 40));
+			for(int x = 0; x < region.width; x++)
+				for(int y = 0; y < region.height; y++)
+					assertEquals((60 + x) * 1000 + 5 + y, region.get(x, y), 0);
+		}
+	}
+
+	@Test(expected = FileAlreadyExistsException.class)
+	public void createNotEmpty() throws IOException {
+		Path file = folder.newFile().toPath();
+		MappedHeightField.create(file, 10, 10).close();
+		MappedHeightField.create(file, 10, 10).close();
+	}
+
+	@Test(expected = IOException.class)
+	public void openInvalid() throws IOException {
+		Path file = folder.newFile().toPath();
+		Files.write(file, new byte[64]);
+		MappedHeightField.open(file, false).close();
+	}
+
+}
@@ -0,0 +1,91 @@
+package net.dermetfan.utils.math;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class NoiseChunkCacheTest {
+
+	@Test
+	public void seams() {
+		int n = 5, size = 1 << n;
+		NoiseChunkCache cache = new NoiseChunkCache(n, 1.5f, 2, 42, Long.MAX_VALUE);
+		for(int cx = -2; cx < 2; cx++)
+			for(int cy = -2; cy < 2; cy++) {
+				HeightField chunk = cache.get(cx, cy), right = cache.get(cx + 1, cy), top = cache.get(cx, cy + 1);
+				for(int i = 0; i <= size; i++) {
+					assertEquals(chunk.get(size, i), right.get(0, i), 0);
+					assertEquals(chunk.get(i, size), top.get(i, 0), 0);
+				}
+			}
+	}
+
+	@Test
+	public void deterministic() {
+		int size = Noise.size(4, 1);
+		NoiseChunkCache cache = new NoiseChunkCache(4, 2, 1, 7, 0);
+		HeightField chunk = Noise.diamondSquareChunk(4, 2, 1, 7, 3, -5, new HeightField(size, size));
+		assertArrayEquals(chunk.data, cache.get(3, -5).data, 0);
+		cache.get(-5, 3);
+		assertArrayEquals(chunk.data, cache.get(3, -5).data, 0);
+		assertEquals(chunk.get(2, 7), cache.get(3 * 16 + 2L, -5 * 16 + 7L), 0);
+	}
+
+	@Test
+	public void farChunks() {
+		int size = Noise.size(4, 1);
+		HeightField origin = Noise.diamondSquareChunk(4, 2, 1, 7, 0, 0, new HeightField(size, size));
+		HeightField far = Noise.diamondSquareChunk(4, 2, 1, 7, 1 << 28, 0, new HeightField(size, size)); // 2^28 * 2^4 wraps to 0 in int arithmetic
+		boolean differs = false;
+		for(int i = 0; i < origin.data.length; i++)
+			differs |= origin.data[i] != far.data[i];
+		assertTrue(differs);
+		HeightField last = Noise.diamondSquareChunk(4, 2, 1, 7, Integer.MAX_VALUE - 1, 0, new HeightField(size, size));
+		HeightField next = Noise.diamondSquareChunk(4, 2, 1, 7, Integer.MAX_VALUE, 0, new HeightField(size, size));
+		for(int i = 0; i < size; i++)
+			assertEquals(last.get(size - 1, i), next.get(0, i), 0);
+	}
+
+	@Test
+	public void globalRange() {
+		NoiseChunkCache cache = new NoiseChunkCache(3, 2, 1, 0, 0);
+		long size = 1 << 3;
+		assertEquals(cache.get(Integer.MAX_VALUE, Integer.MIN_VALUE).get((int) size - 1, 0), cache.get(Integer.MAX_VALUE * size + size - 1, Integer.MIN_VALUE * size), 0);
+		try {
+			cache.get(Integer.MAX_VALUE * size + size, 0);
+			fail("chunk index overflow not detected");
+		} catch(IllegalArgumentException e) {
+			// expected
+		}
+		try {
+			cache.get(0, Integer.MIN_VALUE * size - 1);
+			fail("chunk index overflow not detected");
+		} catch(IllegalArgumentException e) {
+			// expected
+		}
+	}
+
+	@Test
+	public void budget() {
+		NoiseChunkCache cache = new NoiseChunkCache(3, 2, 1, 0, 0);
+		cache.setMaxBytes(cache.getChunkBytes() * 2);
+		HeightField first = cache.get(0, 0);
+		cache.get(1, 0);
+		assertSame(first, cache.get(0, 0)); // makes (1, 0) the least recently used
+		cache.get(2, 0);
+		assertEquals(2, cache.size());
+		assertTrue(cache.contains(0, 0));
+		assertFalse(cache.contains(1, 0));
+		assertTrue(cache.contains(2, 0));
+		assertTrue(cache.getBytes() <= cache.getMaxBytes());
+		cache.setMaxBytes(cache.getChunkBytes());
+		assertEquals(1, cache.size());
+		assertTrue(cache.contains(2, 0));
+	}
+
+}
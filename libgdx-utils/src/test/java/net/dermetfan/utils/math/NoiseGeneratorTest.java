@@ -0,0 +1,73 @@
+package net.dermetfan.utils.math;
+
+import com.badlogic.gdx.math.Vector2;
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class NoiseGeneratorTest {
+
+	@Test
+	public void reproducible() {
+		NoiseGenerator generator = new NoiseGenerator(42);
+		float[][] map = generator.diamondSquare(5, 2, 1, false, false, 1, 1);
+		assertArrayEquals(map, new NoiseGenerator(42).diamondSquare(5, 2, 1, false, false, 1, 1));
+		generator.setSeed(42);
+		assertArrayEquals(map, generator.diamondSquare(5, 2, 1, false, false, 1, 1));
+	}
+
+	@Test
+	public void concurrent() throws InterruptedException {
+		final float[][] expected = new NoiseGenerator(7).midpointDisplacement(5, 2, 1, 1, 1);
+		final boolean[] equal = new boolean[4];
+		Thread[] threads = new Thread[equal.length];
+		for(int i = 0; i < threads.length; i++) {
+			final int index = i;
+			threads[i] = new Thread(() -> {
+				boolean allEqual = true;
+				for(int run = 0; run < 20; run++)
+					allEqual &= java.util.Arrays.deepEquals(expected, new NoiseGenerator(7).midpointDisplacement(5, 2, 1, 1, 1));
+				equal[index] = allEqual;
+			});
+			threads[i].start();
+		}
+		for(Thread thread : threads)
+			thread.join();
+		for(boolean allEqual : equal)
+			assertTrue(allEqual);
+	}
+
+	@Test
+	public void random() {
+		NoiseGenerator generator = new NoiseGenerator(1);
+		for(int i = 0; i < 10000; i++) {
+			float value = generator.random(-2, 3);
+			assertTrue(value >= -2 && value < 3);
+		}
+	}
+
+	@Test
+	public void upscale() {
+		HeightField source = new HeightField(5, 4);
+		for(int x = 0; x < source.width; x++)
+			for(int y = 0; y < source.height; y++)
+				source.set(x, y, x * 10 + y);
+		int n = 3;
+		HeightField diamondSquare = new NoiseGenerator(1).diamondSquare(n, 2, 1, false, false, source, new HeightField((4 << n) + 1, (3 << n) + 1));
+		HeightField midpointDisplacement = new NoiseGenerator(1).midpointDisplacement(n, 2, 1, source, new HeightField((4 << n) + 1, (3 << n) + 1));
+		for(int x = 0; x < source.width; x++)
+			for(int y = 0; y < source.height; y++) {
+				assertEquals(source.get(x, y), diamondSquare.get(x << n, y << n), 0);
+				assertEquals(source.get(x, y), midpointDisplacement.get(x << n, y << n), 0);
+			}
+	}
+
+	@Test
+	public void intIntInit() {
+		HeightField expected = new NoiseGenerator(3).diamondSquare(4, 2, 1, false, false, (Vector2 coord) -> coord.x / 2 - coord.y, new HeightField(33, 17));
+		assertArrayEquals(expected.data, new NoiseGenerator(3).diamondSquare(4, 2, 1, false, false, (x, y) -> x / 2f - y, new HeightField(33, 17)).data, 0);
+	}
+
+}
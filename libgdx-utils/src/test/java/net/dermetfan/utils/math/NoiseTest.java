@@ -0,0 +1,42 @@
+package net.dermetfan.utils.math;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+public class NoiseTest {
+
+	@Test
+	public void diamondSquareFlat() {
+		for(int wrap = 0; wrap < 4; wrap++) {
+			boolean wrapX = (wrap & 1) != 0, wrapY = (wrap & 2) != 0;
+			Noise.setSeed(42);
+			float[][] jagged = Noise.diamondSquare(5, 1.5f, 2, wrapX, wrapY, 2, 1);
+			Noise.setSeed(42);
+			HeightField field = new HeightField(new float[7 + 65 * 40], 7, 65, 33, 40).fill(1); // padded rows at an offset, not cleared
+			Noise.diamondSquare(5, 1.5f, 2, wrapX, wrapY, field);
+			assertEquals(jagged.length, field.width);
+			for(int x = 0; x < jagged.length; x++)
+				for(int y = 0; y < jagged[x].length; y++)
+					assertEquals("at " + x + ", " + y, jagged[x][y], field.get(x, y), 0);
+		}
+	}
+
+	@Test
+	public void midpointDisplacementFlat() {
+		Noise.setSeed(42);
+		float[][] jagged = Noise.midpointDisplacement(4, 2, 1, 0f, 1, 2);
+		Noise.setSeed(42);
+		HeightField field = Noise.midpointDisplacement(4, 2, 1, 0f, new HeightField(Noise.size(4, 1), Noise.size(4, 2)));
+		float[][] flat = field.toArray();
+		for(int x = 0; x < jagged.length; x++)
+			assertArrayEquals(jagged[x], flat[x], 0);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void diamondSquareWrongSize() {
+		Noise.diamondSquare(3, 2, 1, false, false, new HeightField(10, 9));
+	}
+
+}
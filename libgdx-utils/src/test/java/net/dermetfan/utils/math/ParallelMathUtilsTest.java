@@ -0,0 +1,69 @@
+package net.dermetfan.utils.math;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import com.badlogic.gdx.math.Rectangle;
+import org.junit.After;
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+public class ParallelMathUtilsTest {
+
+	private final int threshold = ParallelMathUtils.threshold;
+
+	@After
+	public void resetThreshold() {
+		ParallelMathUtils.threshold = threshold;
+	}
+
+	private static float[] random(int length) {
+		Random random = new Random(42);
+		float[] items = new float[length];
+		for(int i = 0; i < length; i++)
+			items[i] = (random.nextFloat() - .5f) * 1000;
+		return items;
+	}
+
+	@Test
+	public void deterministic() {
+		ParallelMathUtils.threshold = 16;
+		float[] items = random(10001);
+		ForkJoinPool pool = new ForkJoinPool(4);
+		try {
+			float sum = ParallelMathUtils.sum(items, 1, 10000, null);
+			for(int i = 0; i < 10; i++)
+				assertEquals(Float.floatToIntBits(sum), Float.floatToIntBits(ParallelMathUtils.sum(items, 1, 10000, pool)));
+			assertEquals(MathUtils.sum(items, 1, 10000), sum, .1f);
+		} finally {
+			pool.shutdown();
+		}
+	}
+
+	@Test
+	public void reductions() {
+		ParallelMathUtils.threshold = 16;
+		float[] items = random(1001);
+		assertEquals(MathUtils.min(items, 1, 999), ParallelMathUtils.min(items, 1, 999), 0);
+		assertEquals(MathUtils.max(items, 1, 999), ParallelMathUtils.max(items, 1, 999), 0);
+		assertEquals(MathUtils.amplitude2(items, 1, 999), ParallelMathUtils.amplitude2(items, 1, 999), 0);
+		assertEquals(GeometryUtils.minX(items, 1, 1000), ParallelMathUtils.minX(items, 1, 1000), 0);
+		assertEquals(GeometryUtils.maxX(items, 1, 1000), ParallelMathUtils.maxX(items, 1, 1000), 0);
+		assertEquals(GeometryUtils.minY(items, 1, 1000), ParallelMathUtils.minY(items, 1, 1000), 0);
+		assertEquals(GeometryUtils.maxY(items, 1, 1000), ParallelMathUtils.maxY(items, 1, 1000), 0);
+		assertEquals(new Rectangle(GeometryUtils.minX(items, 1, 1000), GeometryUtils.minY(items, 1, 1000), GeometryUtils.width(items, 1, 1000), GeometryUtils.height(items, 1, 1000)), ParallelMathUtils.setToAABB(new Rectangle(), items, 1, 1000));
+		assertEquals(Float.NaN, ParallelMathUtils.min(items, 0, 0), 0);
+	}
+
+	@Test
+	public void transformations() {
+		ParallelMathUtils.threshold = 16;
+		float[] items = random(1001);
+		assertArrayEquals(MathUtils.scale(items.clone(), 1, 999, -5, 5), ParallelMathUtils.scale(items.clone(), 1, 999, -5, 5), 0);
+		assertArrayEquals(GeometryUtils.add(items.clone(), 1, 1000, 3, -2), ParallelMathUtils.add(items.clone(), 1, 1000, 3, -2), 0);
+		assertArrayEquals(GeometryUtils.mul(items.clone(), 1, 1000, 3, -2), ParallelMathUtils.mul(items.clone(), 1, 1000, 3, -2), 0);
+	}
+
+}
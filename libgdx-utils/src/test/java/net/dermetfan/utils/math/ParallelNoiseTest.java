@@ -0,0 +1,47 @@
+package net.dermetfan.utils.math;
+
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.After;
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+public class ParallelNoiseTest {
+
+	private final int threshold = ParallelNoise.threshold;
+
+	@After
+	public void resetThreshold() {
+		ParallelNoise.threshold = threshold;
+	}
+
+	@Test
+	public void deterministic() {
+		ParallelNoise.threshold = 1; // split as much as possible
+		ForkJoinPool pool = new ForkJoinPool(4);
+		try {
+			for(int wrap = 0; wrap < 4; wrap++) {
+				boolean wrapX = (wrap & 1) != 0, wrapY = (wrap & 2) != 0;
+				HeightField sequential = ParallelNoise.diamondSquare(6, 1.5f, 2, wrapX, wrapY, 42, new HeightField(Noise.size(6, 2), Noise.size(6, 1)), null);
+				for(int i = 0; i < 3; i++) {
+					HeightField parallel = ParallelNoise.diamondSquare(6, 1.5f, 2, wrapX, wrapY, 42, new HeightField(Noise.size(6, 2), Noise.size(6, 1)), pool);
+					assertArrayEquals(sequential.data, parallel.data, 0);
+				}
+			}
+		} finally {
+			pool.shutdown();
+		}
+	}
+
+	@Test
+	public void wrap() {
+		HeightField field = ParallelNoise.diamondSquare(5, 2, 1, true, true, 7, new HeightField(Noise.size(5, 1), Noise.size(5, 1)), null);
+		for(int i = 0; i < field.width; i++) {
+			assertEquals(field.get(0, i), field.get(field.width - 1, i), 0);
+			assertEquals(field.get(i, 0), field.get(i, field.height - 1), 0);
+		}
+	}
+
+}
@@ -0,0 +1,50 @@
+package net.dermetfan.utils.math;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class ProgressiveNoiseTest {
+
+	@Test
+	public void diamondSquare() {
+		int width = Noise.size(6, 2), height = Noise.size(6, 1);
+		for(int wrap = 0; wrap < 4; wrap++) {
+			boolean wrapX = (wrap & 1) != 0, wrapY = (wrap & 2) != 0;
+			HeightField expected = new NoiseGenerator(5).diamondSquare(6, 1.7f, 3, wrapX, wrapY, new HeightField(width, height));
+			ProgressiveNoise noise = new ProgressiveNoise(new NoiseGenerator(5));
+			noise.diamondSquare(6, 1.7f, 3, wrapX, wrapY, new HeightField(width, height));
+			while(!noise.update(0)); // one row per update
+			assertArrayEquals(expected.data, noise.getField().data, 0);
+		}
+	}
+
+	@Test
+	public void midpointDisplacement() {
+		int size = Noise.size(6, 1);
+		HeightField expected = new NoiseGenerator(5).midpointDisplacement(6, 1.7f, 3, new HeightField(size, size));
+		ProgressiveNoise noise = new ProgressiveNoise(new NoiseGenerator(5));
+		noise.midpointDisplacement(6, 1.7f, 3, new HeightField(size, size));
+		assertArrayEquals(expected.data, noise.finish().data, 0);
+	}
+
+	@Test
+	public void preview() {
+		int size = Noise.size(4, 1);
+		ProgressiveNoise noise = new ProgressiveNoise(new NoiseGenerator(1));
+		noise.diamondSquare(4, 2, 1, false, false, new HeightField(size, size));
+		assertFalse(noise.isDone());
+		assertEquals(16, noise.getResolution());
+		HeightField field = noise.getField();
+		float x0y0 = field.get(0, 0), x1y0 = field.get(16, 0), x0y1 = field.get(0, 16), x1y1 = field.get(16, 16);
+		assertEquals(x0y0, noise.sample(0, 0), 0);
+		assertEquals((x0y0 + x1y0 + x0y1 + x1y1) / 4, noise.sample(8, 8), 1e-6f);
+		assertTrue(noise.update(Long.MAX_VALUE));
+		assertEquals(1, noise.getResolution());
+		assertEquals(field.get(8, 8), noise.sample(8, 8), 0);
+	}
+
+}
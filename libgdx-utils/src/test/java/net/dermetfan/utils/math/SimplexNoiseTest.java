@@ -0,0 +1,54 @@
+package net.dermetfan.utils.math;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+public class SimplexNoiseTest {
+
+	private final SimplexNoise noise = new SimplexNoise(42);
+
+	@Test
+	public void range() {
+		Random random = new Random(1);
+		for(int i = 0; i < 10000; i++) {
+			float x = (random.nextFloat() - .5f) * 1000, y = (random.nextFloat() - .5f) * 1000, z = (random.nextFloat() - .5f) * 1000;
+			assertInRange(noise.noise(x, y), -1, 1);
+			assertInRange(noise.noise(x, y, z), -1, 1);
+			assertInRange(noise.fbm(x, y, 4, 2, .5f), -1, 1);
+			assertInRange(noise.ridged(x, y, 4, 2, .5f), 0, 1);
+		}
+	}
+
+	@Test
+	public void seed() {
+		assertEquals(noise.noise(3.3f, 4.4f), new SimplexNoise(42).noise(3.3f, 4.4f), 0);
+		assertNotEquals(noise.noise(3.3f, 4.4f), new SimplexNoise(43).noise(3.3f, 4.4f), 0);
+	}
+
+	@Test
+	public void fill() {
+		float x = -3.5f, y = 2.25f, step = .1f;
+		HeightField fbm = noise.fillFbm(new HeightField(new float[40 * 40], 3, 30, 30, 33), x, y, step, 5, 2, .5f);
+		HeightField ridged = noise.fillRidged(new HeightField(30, 30), x, y, step, 5, 2, .5f);
+		HeightField warped = noise.fillWarped(new HeightField(30, 30), x, y, step, 4, 3, 2, .5f);
+		HeightField slice = noise.fill(new HeightField(30, 30), x, y, 7, step);
+		for(int fx = 0; fx < 30; fx++)
+			for(int fy = 0; fy < 30; fy++) {
+				float sx = x + fx * step, sy = y + fy * step;
+				assertEquals(noise.fbm(sx, sy, 5, 2, .5f), fbm.get(fx, fy), 0);
+				assertEquals(noise.ridged(sx, sy, 5, 2, .5f), ridged.get(fx, fy), 0);
+				assertEquals(noise.warp(sx, sy, 4, 3, 2, .5f), warped.get(fx, fy), 0);
+				assertEquals(noise.noise(sx, sy, 7), slice.get(fx, fy), 0);
+			}
+	}
+
+	private static void assertInRange(float value, float min, float max) {
+		assertTrue(value + " is not in [" + min + ", " + max + "]", value >= min && value <= max);
+	}
+
+}
@@ -0,0 +1,75 @@
+package net.dermetfan.utils;
+
+import java.lang.management.ManagementFactory;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assume.assumeTrue;
+
+/** measures the heap allocations of the current thread using {@link com.sun.management.ThreadMXBean#getThreadAllocatedBytes(long)}, to guard code paths that are supposed to be garbage-free
+ *  @since 0.13.8 */
+public class Allocations {
+
+	/** the default number of times a task is run before measuring, so that pools, caches and lazily created temporaries are filled */
+	public static final int defaultWarmup = 1000;
+
+	/** the default number of times a task is run while measuring */
+	public static final int defaultIterations = 10000;
+
+	/** the ThreadMXBean, or null if the JVM cannot measure allocations per thread */
+	private static final com.sun.management.ThreadMXBean bean;
+
+	static {
+		java.lang.management.ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+		com.sun.management.ThreadMXBean sunBean = null;
+		if(threadBean instanceof com.sun.management.ThreadMXBean) {
+			sunBean = (com.sun.management.ThreadMXBean) threadBean;
+			if(sunBean.isThreadAllocatedMemorySupported())
+				sunBean.setThreadAllocatedMemoryEnabled(true);
+			else
+				sunBean = null;
+		}
+		bean = sunBean;
+	}
+
+	/** @return if this JVM can measure the allocations of a thread */
+	public static boolean isSupported() {
+		return bean != null;
+	}
+
+	/** @return the number of bytes the current thread allocated so far */
+	public static long allocatedBytes() {
+		return bean.getThreadAllocatedBytes(Thread.currentThread().getId());
+	}
+
+	/** @param task the task to measure
+	 *  @param warmup the number of times to run the task before measuring
+	 *  @param iterations the number of times to run the task while measuring
+	 *  @return the average number of bytes allocated by one run of the task, rounded down so that the constant overhead of measuring is ignored */
+	public static long bytesPerRun(Runnable task, int warmup, int iterations) {
+		if(iterations <= 0)
+			throw new IllegalArgumentException("iterations must be greater than zero: " + iterations);
+		for(int i = 0; i < warmup; i++)
+			task.run();
+		long baseline = allocatedBytes();
+		baseline = allocatedBytes() - baseline; // the allocations of measuring itself
+		long before = allocatedBytes();
+		for(int i = 0; i < iterations; i++)
+			task.run();
+		long allocated = allocatedBytes() - before - baseline;
+		return Math.max(allocated, 0) / iterations;
+	}
+
+	/** @see #assertNoAllocation(String, Runnable, int, int) */
+	public static void assertNoAllocation(String message, Runnable task) {
+		assertNoAllocation(message, task, defaultWarmup, defaultIterations);
+	}
+
+	/** Asserts that the given task does not allocate once warmed up. The test is skipped if the JVM cannot measure allocations.
+	 *  @param message the message of the failure, should name the code path
+	 *  @see #bytesPerRun(Runnable, int, int) */
+	public static void assertNoAllocation(String message, Runnable task, int warmup, int iterations) {
+		assumeTrue("the JVM cannot measure allocations per thread", isSupported());
+		assertEquals(message + " allocated bytes per run", 0, bytesPerRun(task, warmup, iterations));
+	}
+
+}